@@ -0,0 +1,60 @@
+package com.backend.util;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 후보 n개 거리 계산: 행 단위 GeoUtils.distanceMeters vs 스칼라 커널 vs Vector API 커널.
+ * DB의 행 단위 ST_Distance_Sphere와의 비교는 RestaurantSpatialBenchmarkTest(PICK_BENCH=true)에서 한다.
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HaversineKernelBenchmark {
+
+    @Param({"256", "4096", "65536"})
+    public int n;
+
+    private double[] lats, lngs, out;
+    private final HaversineKernel scalar = HaversineKernels.scalar();
+    private final HaversineKernel best = HaversineKernels.best();
+
+    private static final double LAT = 37.5027, LNG = 127.0352;
+
+    @Setup
+    public void setup() {
+        // 수도권 범위 균등 분포 (RestaurantSpatialBenchmarkTest와 같은 범위)
+        Random random = new Random(42);
+        lats = new double[n];
+        lngs = new double[n];
+        out = new double[n];
+        for (int i = 0; i < n; i++) {
+            lats[i] = 37.3 + random.nextDouble() * 0.5;
+            lngs[i] = 126.6 + random.nextDouble() * 0.8;
+        }
+    }
+
+    @Benchmark
+    public void perRow(Blackhole bh) {
+        for (int i = 0; i < n; i++) {
+            out[i] = GeoUtils.distanceMeters(LAT, LNG, lats[i], lngs[i]);
+        }
+        bh.consume(out);
+    }
+
+    @Benchmark
+    public void scalarKernel(Blackhole bh) {
+        scalar.distances(LAT, LNG, lats, lngs, n, out);
+        bh.consume(out);
+    }
+
+    @Benchmark
+    public void vectorKernel(Blackhole bh) {
+        best.distances(LAT, LNG, lats, lngs, n, out);
+        bh.consume(out);
+    }
+}
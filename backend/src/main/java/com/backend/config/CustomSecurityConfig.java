@@ -71,6 +71,7 @@ public class CustomSecurityConfig {
                 .requestMatchers("/api/member/mypage").authenticated()
                 .requestMatchers("/api/member/locations").authenticated()
                 .requestMatchers("/api/member/**").permitAll()
+                .requestMatchers(HttpMethod.POST, "/api/for-one/*/join", "/api/for-one/*/leave").authenticated()
                 .requestMatchers("/api/for-one/**").permitAll()
 
                 .requestMatchers("/api/test/**").permitAll()
@@ -82,7 +83,9 @@ public class CustomSecurityConfig {
                 .requestMatchers("/api/funding-specialty/**").permitAll() // 지역특산품 구매 API 접근 허용
 
                 .requestMatchers("/api/store/**").hasRole("BUSINESS_OWNER")
+                .requestMatchers(HttpMethod.PUT, "/api/funding/*/status").authenticated() // 본인 취소 또는 관리자
                 .requestMatchers("/api/funding/**").permitAll()
+                .requestMatchers("/api/stats/**").permitAll() // 펀딩 통계(사전 집계) 조회
                 .requestMatchers("/api/admin/**").hasRole("ADMIN")
                 
 
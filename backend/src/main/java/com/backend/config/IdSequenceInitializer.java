@@ -0,0 +1,47 @@
+package com.backend.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 시퀀스 ID를 쓰는 엔티티(펀딩/특산품 주문/알림/아웃박스)의 시퀀스를 기존 테이블 최대 ID 뒤로 맞춘다.
+ * 원래 AUTO_INCREMENT로 쌓인 행이 있으므로, 맞추지 않으면 새 시퀀스 값이 기존 ID와 겹친다.
+ * ddl-auto=update로 시퀀스가 만들어진 뒤(EntityManagerFactory 생성 후), 요청을 받기 전에 실행된다.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+@Log4j2
+public class IdSequenceInitializer {
+
+	// 엔티티의 @SequenceGenerator allocationSize와 같아야 함
+	private static final int ALLOCATION_SIZE = 50;
+
+	// 시퀀스 → 테이블
+	private static final Map<String, String> SEQUENCES = Map.of(
+			"funding_seq", "funding",
+			"funding_specialty_seq", "funding_specialty",
+			"notifications_seq", "notifications",
+			"outbox_event_seq", "outbox_event");
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@PostConstruct
+	public void alignSequences() {
+		SEQUENCES.forEach((sequence, table) -> {
+			jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS " + sequence
+					+ " START WITH 1 INCREMENT BY " + ALLOCATION_SIZE);
+			Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+			// pooled 방식은 시퀀스 값 이전 allocationSize개를 쓰므로 한 블록만큼 더 띄움.
+			// SETVAL은 현재 값보다 작으면 무시되므로 재기동 시에도 안전
+			jdbcTemplate.queryForList("SELECT SETVAL(" + sequence + ", " + (maxId + ALLOCATION_SIZE) + ")");
+			log.info("Aligned id sequence {} after {}.id={}", sequence, table, maxId);
+		});
+	}
+}
@@ -0,0 +1,46 @@
+package com.backend.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * restaurant.location(POINT) 컬럼 보정 + SPATIAL 인덱스 생성.
+ * ddl-auto=update는 NULL 허용 컬럼만 추가하고 SPATIAL 인덱스는 만들지 못하므로 기동 시 한 번 맞춰준다.
+ * CSV 적재처럼 엔티티를 거치지 않고 들어온 행도 여기서 x/y 기준으로 다시 채운다.
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class SpatialIndexInitializer {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Order(0)
+	@EventListener(ApplicationReadyEvent.class)
+	public void ensureRestaurantLocationIndex() {
+		int synced = jdbcTemplate.update("""
+			UPDATE restaurant
+			SET location = POINT(x, y)
+			WHERE location IS NULL OR ST_X(location) <> x OR ST_Y(location) <> y
+			""");
+
+		List<String> nullable = jdbcTemplate.queryForList("""
+			SELECT IS_NULLABLE FROM information_schema.COLUMNS
+			WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'restaurant' AND COLUMN_NAME = 'location'
+			""", String.class);
+		if (!nullable.isEmpty() && "YES".equals(nullable.get(0))) {
+			// SPATIAL 인덱스는 NOT NULL 컬럼에만 만들 수 있음
+			jdbcTemplate.execute("ALTER TABLE restaurant MODIFY location POINT NOT NULL");
+		}
+		jdbcTemplate.execute("CREATE SPATIAL INDEX IF NOT EXISTS idx_restaurant_location ON restaurant (location)");
+
+		log.info("Restaurant location synced: {} rows, spatial index ensured", synced);
+	}
+}
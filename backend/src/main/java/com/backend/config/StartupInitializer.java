@@ -6,6 +6,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,6 +21,7 @@ public class StartupInitializer {
 	private final RestaurantRepository restaurantRepository;
 
 	@EventListener(ApplicationReadyEvent.class)
+	@Order(2) // 메모리 인덱스/스냅샷 적재보다 먼저
 	@Transactional
 	public void seedFundingPeriodsIfMissing() {
 		List<Restaurant> restaurants = restaurantRepository.findAll();
@@ -35,4 +37,12 @@ public class StartupInitializer {
 		}
 		log.info("Initialized funding periods on Restaurant: {} records", updated);
 	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Order(2) // 메모리 인덱스/스냅샷 적재보다 먼저
+	@Transactional
+	public void refreshMainImages() {
+		int updated = restaurantRepository.refreshAllMainImages();
+		log.info("Refreshed main image on Restaurant: {} records", updated);
+	}
 } 
\ No newline at end of file
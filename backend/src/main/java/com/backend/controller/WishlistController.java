@@ -118,10 +118,12 @@ public class WishlistController {
     
     // 찜 목록과 레스토랑 상세 정보 함께 조회 (프론트엔드 최적화용)
     @GetMapping("/with-details")
-    public ResponseEntity<List<Map<String, Object>>> getUserWishlistWithDetails() {
+    public ResponseEntity<List<Map<String, Object>>> getUserWishlistWithDetails(
+            @RequestParam(required = false) Double lat,
+            @RequestParam(required = false) Double lng) {
         try {
             String userEmail = getCurrentUserEmail();
-            List<Map<String, Object>> wishlistWithDetails = wishlistService.getUserWishlistWithDetails(userEmail);
+            List<Map<String, Object>> wishlistWithDetails = wishlistService.getUserWishlistWithDetails(userEmail, lat, lng);
             return ResponseEntity.ok(wishlistWithDetails);
         } catch (Exception e) {
             log.error("찜 목록 상세 조회 실패", e);
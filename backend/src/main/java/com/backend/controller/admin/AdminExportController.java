@@ -0,0 +1,64 @@
+package com.backend.controller.admin;
+
+import com.backend.service.export.AdminExportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * 관리자 리포트용 CSV 다운로드 (응답을 스트리밍하므로 기간이 길어도 서버 메모리는 일정)
+ * 예: GET /api/admin/export/fundings?from=2025-01-01&to=2025-01-31 (기본: 최근 30일)
+ */
+@RestController
+@RequestMapping("/api/admin/export")
+@RequiredArgsConstructor
+@Log4j2
+public class AdminExportController {
+
+    private static final int DEFAULT_DAYS = 30;
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+
+    private final AdminExportService adminExportService;
+
+    @GetMapping("/fundings")
+    public ResponseEntity<StreamingResponseBody> exportFundings(
+            @RequestParam(required = false) LocalDate from,
+            @RequestParam(required = false) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_DAYS - 1);
+        if (start.isAfter(end)) {
+            return ResponseEntity.badRequest().build();
+        }
+        log.info("펀딩 CSV 내보내기: {} ~ {}", start, end);
+        return csv("fundings_" + start + "_" + end + ".csv",
+                out -> adminExportService.exportFundings(start, end, out));
+    }
+
+    @GetMapping("/specialty-orders")
+    public ResponseEntity<StreamingResponseBody> exportSpecialtyOrders(
+            @RequestParam(required = false) LocalDate from,
+            @RequestParam(required = false) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_DAYS - 1);
+        if (start.isAfter(end)) {
+            return ResponseEntity.badRequest().build();
+        }
+        log.info("특산품 주문 CSV 내보내기: {} ~ {}", start, end);
+        return csv("specialty_orders_" + start + "_" + end + ".csv",
+                out -> adminExportService.exportSpecialtyOrders(start, end, out));
+    }
+
+    private static ResponseEntity<StreamingResponseBody> csv(String filename, StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(TEXT_CSV)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(body);
+    }
+}
@@ -0,0 +1,33 @@
+package com.backend.controller.admin;
+
+import com.backend.dto.outbox.OutboxStatsDTO;
+import com.backend.service.outbox.OutboxDispatcher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/outbox")
+@RequiredArgsConstructor
+@Log4j2
+public class AdminOutboxController {
+
+    private final OutboxDispatcher outboxDispatcher;
+
+    // 대기/실패 건수, 지연 시간 등 아웃박스 전달 지표
+    @GetMapping("/stats")
+    public ResponseEntity<OutboxStatsDTO> getStats() {
+        return ResponseEntity.ok(outboxDispatcher.stats());
+    }
+
+    // 재시도 한도를 넘긴(DEAD) 이벤트 재전달
+    @PostMapping("/{id}/retry")
+    public ResponseEntity<Void> retryDead(@PathVariable Long id) {
+        log.info("아웃박스 이벤트 재전달 요청: id={}", id);
+        if (!outboxDispatcher.retryDead(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok().build();
+    }
+}
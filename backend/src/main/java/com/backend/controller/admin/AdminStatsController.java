@@ -0,0 +1,24 @@
+package com.backend.controller.admin;
+
+import com.backend.service.stats.FundingStatsRollup;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/stats")
+@RequiredArgsConstructor
+@Log4j2
+public class AdminStatsController {
+
+    private final FundingStatsRollup fundingStatsRollup;
+
+    // 펀딩 통계 사전 집계를 funding 테이블 기준으로 다시 만든다 (카테고리 변경 반영, 불일치 복구용)
+    @PostMapping("/rebuild")
+    public ResponseEntity<Void> rebuild() {
+        log.info("펀딩 통계 전체 재계산 요청");
+        fundingStatsRollup.rebuild();
+        return ResponseEntity.ok().build();
+    }
+}
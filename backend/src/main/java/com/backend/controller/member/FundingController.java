@@ -1,15 +1,28 @@
 package com.backend.controller.member;
 
+import com.backend.dto.common.CursorSliceDTO;
 import com.backend.dto.member.FundingDTO;
 import com.backend.dto.member.FundingCreateRequest;
+import com.backend.dto.member.FundingHistoryView;
+import com.backend.dto.member.FundingProgressDTO;
 import com.backend.domain.member.Funding;
+import com.backend.service.member.FundingProgressService;
 import com.backend.service.member.FundingService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/funding")
@@ -18,6 +31,8 @@ import java.util.List;
 public class FundingController {
     
     private final FundingService fundingService;
+    private final FundingProgressService fundingProgressService;
+    private final ObjectMapper objectMapper;
     
     @PostMapping
     public ResponseEntity<FundingDTO> createFunding(@RequestBody FundingCreateRequest request) {
@@ -34,6 +49,39 @@ public class FundingController {
         return ResponseEntity.ok(fundings);
     }
     
+    // 최신순 커서 페이지 (COUNT 쿼리 없음). 예: GET /api/funding/member/{memberId}/cursor?size=20&cursor={nextCursor}
+    @GetMapping("/member/{memberId}/cursor")
+    public ResponseEntity<CursorSliceDTO<FundingHistoryView>> getMemberFundingSlice(
+            @PathVariable String memberId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        log.info("회원 펀딩 커서 조회: memberId={}, size={}, cursor={}", memberId, size, cursor);
+        return ResponseEntity.ok(fundingService.getMemberFundingSlice(memberId, cursor, size));
+    }
+    
+    // 회원 펀딩 전체 내역 JSON 배열 내보내기. 커서 페이지 단위로 읽으면서 바로 응답에 써서 메모리에 쌓지 않는다
+    @GetMapping("/member/{memberId}/export")
+    public ResponseEntity<StreamingResponseBody> exportMemberFundings(@PathVariable String memberId) {
+        log.info("회원 펀딩 내역 내보내기: memberId={}", memberId);
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator json = objectMapper.createGenerator(out)) {
+                json.writeStartArray();
+                fundingService.forEachMemberFunding(memberId, funding -> {
+                    try {
+                        json.writeObject(funding);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                json.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"fundings.json\"")
+                .body(body);
+    }
+    
     @GetMapping("/restaurant/{restaurantId}")
     public ResponseEntity<List<FundingDTO>> getRestaurantFundings(@PathVariable Long restaurantId) {
         log.info("레스토랑 펀딩 목록 조회: restaurantId={}", restaurantId);
@@ -41,6 +89,46 @@ public class FundingController {
         return ResponseEntity.ok(fundings);
     }
     
+    @GetMapping("/restaurant/{restaurantId}/cursor")
+    public ResponseEntity<CursorSliceDTO<FundingHistoryView>> getRestaurantFundingSlice(
+            @PathVariable Long restaurantId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        log.info("레스토랑 펀딩 커서 조회: restaurantId={}, size={}, cursor={}", restaurantId, size, cursor);
+        return ResponseEntity.ok(fundingService.getRestaurantFundingSlice(restaurantId, cursor, size));
+    }
+    
+    // 레스토랑 펀딩 진행률 (DB 기록 전 금액까지 포함한 메모리 값)
+    @GetMapping("/restaurant/{restaurantId}/progress")
+    public ResponseEntity<FundingProgressDTO> getRestaurantFundingProgress(@PathVariable Long restaurantId) {
+        return ResponseEntity.ok(fundingProgressService.get(restaurantId));
+    }
+    
+    // 상태 변경 (CANCELLED / REFUNDED 시 레스토랑 누적 금액 차감). 본인은 취소만, 관리자는 모든 상태로 변경 가능
+    @PutMapping("/{fundingId}/status")
+    public ResponseEntity<FundingDTO> updateFundingStatus(@PathVariable Long fundingId,
+                                                          @RequestBody Map<String, String> statusInfo,
+                                                          Authentication authentication) {
+        log.info("펀딩 상태 변경 요청: fundingId={}, status={}", fundingId, statusInfo.get("status"));
+        Funding.FundingStatus status = parseStatus(statusInfo.get("status"));
+        if (status == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        boolean admin = authentication.getAuthorities().stream()
+                .anyMatch(a -> "ROLE_ADMIN".equals(a.getAuthority()));
+        FundingDTO funding = fundingService.updateFundingStatus(fundingId, status, authentication.getName(), admin);
+        return ResponseEntity.ok(funding);
+    }
+    
+    private static Funding.FundingStatus parseStatus(String status) {
+        if (status == null) return null;
+        try {
+            return Funding.FundingStatus.valueOf(status.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+    
     @GetMapping("/{fundingId}")
     public ResponseEntity<FundingDTO> getFundingById(@PathVariable Long fundingId) {
         log.info("펀딩 상세 조회: fundingId={}", fundingId);
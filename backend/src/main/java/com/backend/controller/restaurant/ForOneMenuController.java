@@ -1,10 +1,21 @@
 package com.backend.controller.restaurant;
 
+import com.backend.dto.forone.ForOneJoinResultDTO;
 import com.backend.dto.forone.ForOneMenuNearbyView;
+import com.backend.service.forone.ForOneAdmissionService;
 import com.backend.service.forone.ForOneMenuService;
+import com.backend.service.forone.ForOneSlotBroadcaster;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.HashSet;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/for-one")
@@ -12,6 +23,8 @@ import org.springframework.web.bind.annotation.*;
 public class ForOneMenuController {
 
     private final ForOneMenuService service;
+    private final ForOneAdmissionService admissionService;
+    private final ForOneSlotBroadcaster broadcaster;
 
     @GetMapping("/nearby")
     public Page<ForOneMenuNearbyView> getNearbyForOneMenus(
@@ -23,4 +36,50 @@ public class ForOneMenuController {
     ) {
         return service.getNearbyForOneMenus(lat, lng, radius, page, size);
     }
+
+    /** 로그인 회원 참여. 이미 참여했거나 정원이 찼으면 409 (accepted=false), 없거나 진행 중이 아닌 슬롯이면 400 */
+    @PostMapping("/{slotId}/join")
+    public ResponseEntity<ForOneJoinResultDTO> join(@PathVariable Long slotId, Authentication authentication) {
+        try {
+            return respond(admissionService.join(slotId, authentication.getName()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /** 본인 참여 취소. 참여하지 않았으면 409 (accepted=false), 없거나 진행 중이 아닌 슬롯이면 400 */
+    @PostMapping("/{slotId}/leave")
+    public ResponseEntity<ForOneJoinResultDTO> leave(@PathVariable Long slotId, Authentication authentication) {
+        try {
+            return respond(admissionService.leave(slotId, authentication.getName()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 참여 인원/상태 실시간 구독 (SSE, 이벤트 이름 "slots", 데이터는 [{slotId, currentParticipants, status}]).
+     * slotIds를 주면 그 슬롯만, 없으면 lat/lng/radius 영역 안의 슬롯 변경을 받는다.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @RequestParam(required = false) List<Long> slotIds,
+            @RequestParam(required = false) Double lat,
+            @RequestParam(required = false) Double lng,
+            @RequestParam(defaultValue = "3000") double radius
+    ) {
+        if (slotIds != null && !slotIds.isEmpty()) {
+            return broadcaster.subscribeSlots(new HashSet<>(slotIds));
+        }
+        if (lat == null || lng == null) {
+            throw new IllegalArgumentException("slotIds or lat/lng is required");
+        }
+        return broadcaster.subscribeArea(lat, lng, radius);
+    }
+
+    private static ResponseEntity<ForOneJoinResultDTO> respond(ForOneJoinResultDTO result) {
+        return result.isAccepted()
+                ? ResponseEntity.ok(result)
+                : ResponseEntity.status(HttpStatus.CONFLICT).body(result);
+    }
 }
@@ -1,11 +1,16 @@
 package com.backend.controller.restaurant;
 
+import com.backend.dto.common.CursorSliceDTO;
+import com.backend.dto.restaurant.CategoryFacetsDTO;
+import com.backend.dto.restaurant.RestaurantClusterDTO;
 import com.backend.dto.restaurant.RestaurantDTO;  // ✅ 상세 DTO
 import com.backend.dto.restaurant.RestaurantThumbView;  // ✅ 프로젝션 DTO
+import com.backend.service.restaurant.RestaurantClusterService;
 import com.backend.service.restaurant.RestaurantService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.data.domain.Page;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import com.backend.dto.restaurant.MenuDTO;
 import java.util.List;
@@ -17,20 +22,126 @@ import java.util.List;
 public class RestaurantController {
 
 	private final RestaurantService restaurantService;
+	private final RestaurantClusterService restaurantClusterService;
 
 	/**
 	 * 예: GET /api/restaurants/nearby?lat=37.5027&lng=127.0352&radius=2000&page=0&size=24
+	 * categoryId(선택): 해당 카테고리와 하위 카테고리만
 	 */
 	@GetMapping("/nearby")
 	public Page<RestaurantThumbView> getNearby(
 			@RequestParam double lat,
 			@RequestParam double lng,
 			@RequestParam(defaultValue = "2000") double radius,
+			@RequestParam(required = false) Long categoryId,
 			@RequestParam(defaultValue = "0") int page,
 			@RequestParam(defaultValue = "24") int size
 	) {
-		log.info("nearby lat={}, lng={}, radius={}m, page={}, size={}", lat, lng, radius, page, size);
-		return restaurantService.getNearby(lat, lng, radius, page, size);
+		log.info("nearby lat={}, lng={}, radius={}m, categoryId={}, page={}, size={}", lat, lng, radius, categoryId, page, size);
+		return restaurantService.getNearby(lat, lng, radius, categoryId, page, size);
+	}
+
+	/**
+	 * nearby 결과의 카테고리별 개수 (카테고리 칩용, 단계별 합계 포함)
+	 * 예: GET /api/restaurants/nearby/facets?lat=37.5027&lng=127.0352&radius=2000
+	 */
+	@GetMapping("/nearby/facets")
+	public CategoryFacetsDTO getNearbyFacets(
+			@RequestParam double lat,
+			@RequestParam double lng,
+			@RequestParam(defaultValue = "2000") double radius
+	) {
+		log.info("nearby facets lat={}, lng={}, radius={}m", lat, lng, radius);
+		return restaurantService.getNearbyFacets(lat, lng, radius);
+	}
+
+	/**
+	 * 무한 스크롤용 커서 페이지 (COUNT 쿼리 없음)
+	 * 예: GET /api/restaurants/nearby/cursor?lat=37.5027&lng=127.0352&radius=2000&size=24&cursor={nextCursor}
+	 */
+	@GetMapping("/nearby/cursor")
+	public CursorSliceDTO<RestaurantThumbView> getNearbySlice(
+			@RequestParam double lat,
+			@RequestParam double lng,
+			@RequestParam(defaultValue = "2000") double radius,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = "24") int size
+	) {
+		log.info("nearby cursor lat={}, lng={}, radius={}m, size={}, cursor={}", lat, lng, radius, size, cursor);
+		return restaurantService.getNearbySlice(lat, lng, radius, cursor, size);
+	}
+
+	/**
+	 * 반경 없이 가장 가까운 k개 (거리순)
+	 * 예: GET /api/restaurants/nearest?lat=37.5027&lng=127.0352&k=20
+	 */
+	@GetMapping("/nearest")
+	public List<RestaurantThumbView> getNearest(
+			@RequestParam double lat,
+			@RequestParam double lng,
+			@RequestParam(defaultValue = "20") int k
+	) {
+		log.info("nearest lat={}, lng={}, k={}", lat, lng, k);
+		return restaurantService.getNearest(lat, lng, k);
+	}
+
+	/**
+	 * 이름/카테고리/태그 검색 (점수순, lat/lng를 주면 가까운 곳 가산)
+	 * 예: GET /api/restaurants/search?q=부대찌개&lat=37.5027&lng=127.0352&size=20
+	 */
+	@GetMapping("/search")
+	public List<RestaurantThumbView> search(
+			@RequestParam String q,
+			@RequestParam(required = false) Double lat,
+			@RequestParam(required = false) Double lng,
+			@RequestParam(defaultValue = "20") int size
+	) {
+		log.info("search q={}, lat={}, lng={}, size={}", q, lat, lng, size);
+		return restaurantService.search(q, lat, lng, size);
+	}
+
+	/**
+	 * 지도 축소 화면용 클러스터 (zoom: 웹 지도 표준 0~21)
+	 * 예: GET /api/restaurants/clusters?bbox=126.90,37.45,127.10,37.60&zoom=12
+	 */
+	@GetMapping("/clusters")
+	public ResponseEntity<List<RestaurantClusterDTO>> getClusters(
+			@RequestParam String bbox,
+			@RequestParam int zoom
+	) {
+		log.info("clusters bbox={}, zoom={}", bbox, zoom);
+		double[] box = parseBbox(bbox);
+		if (box == null) {
+			return ResponseEntity.badRequest().build();
+		}
+		return ResponseEntity.ok(restaurantClusterService.getClusters(box[0], box[1], box[2], box[3], zoom));
+	}
+
+	// minLng,minLat,maxLng,maxLat (경도 -180~180, 위도 -90~90, min <= max). 형식이 틀리면 null
+	private static double[] parseBbox(String bbox) {
+		String[] parts = bbox.split(",");
+		if (parts.length != 4) return null;
+		double[] box = new double[4];
+		try {
+			for (int i = 0; i < 4; i++) {
+				box[i] = Double.parseDouble(parts[i].trim());
+			}
+		} catch (NumberFormatException e) {
+			return null;
+		}
+		boolean valid = box[0] >= -180 && box[2] <= 180 && box[1] >= -90 && box[3] <= 90
+				&& box[0] <= box[2] && box[1] <= box[3]; // NaN이면 비교가 모두 false
+		return valid ? box : null;
+	}
+
+	/**
+	 * 목록 화면용 일괄 조회 (요청한 ID 순서 유지, 최대 500개)
+	 * 예: GET /api/restaurants/batch?ids=12,7,31
+	 */
+	@GetMapping("/batch")
+	public List<RestaurantThumbView> getBatch(@RequestParam List<Long> ids) {
+		log.info("batch ids={}", ids.size());
+		return restaurantService.getThumbs(ids);
 	}
 
 	/**
@@ -0,0 +1,72 @@
+package com.backend.controller.stats;
+
+import com.backend.dto.stats.FundingStatDTO;
+import com.backend.service.stats.FundingStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 대시보드용 펀딩 통계. 모두 사전 집계 테이블에서 읽는다 (FundingStatsRollup)
+ */
+@RestController
+@RequestMapping("/api/stats")
+@RequiredArgsConstructor
+@Log4j2
+public class FundingStatsController {
+
+    private static final int DEFAULT_DAYS = 30;
+
+    private final FundingStatsService fundingStatsService;
+
+    // 일별·카테고리별. 예: GET /api/stats/daily/categories?from=2025-01-01&to=2025-01-31 (기본: 최근 30일)
+    @GetMapping("/daily/categories")
+    public ResponseEntity<List<FundingStatDTO>> getDailyCategoryStats(
+            @RequestParam(required = false) LocalDate from,
+            @RequestParam(required = false) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_DAYS - 1);
+        try {
+            return ResponseEntity.ok(fundingStatsService.getDailyCategoryStats(start, end));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // 음식점 일별
+    @GetMapping("/daily/restaurants/{restaurantId}")
+    public ResponseEntity<List<FundingStatDTO>> getDailyRestaurantStats(
+            @PathVariable Long restaurantId,
+            @RequestParam(required = false) LocalDate from,
+            @RequestParam(required = false) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_DAYS - 1);
+        try {
+            return ResponseEntity.ok(fundingStatsService.getDailyRestaurantStats(restaurantId, start, end));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // 회원의 카테고리별 펀딩 (비율 차트, 카테고리 기반 추천)
+    @GetMapping("/members/{memberEmail}/categories")
+    public ResponseEntity<List<FundingStatDTO>> getMemberCategoryStats(@PathVariable String memberEmail) {
+        return ResponseEntity.ok(fundingStatsService.getMemberCategoryStats(memberEmail));
+    }
+
+    // 회원이 가장 많이 펀딩한 음식점 TOP N
+    @GetMapping("/members/{memberEmail}/restaurants")
+    public ResponseEntity<List<FundingStatDTO>> getMemberTopRestaurants(
+            @PathVariable String memberEmail,
+            @RequestParam(defaultValue = "5") int limit) {
+        try {
+            return ResponseEntity.ok(fundingStatsService.getMemberTopRestaurants(memberEmail, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -12,7 +12,17 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "funding")
+@Table(name = "funding", uniqueConstraints = {
+        // 결제 재시도/중복 클릭으로 같은 결제가 두 번 저장되지 않도록 (NULL은 중복 허용)
+        @UniqueConstraint(name = "uk_funding_merchant_uid", columnNames = "merchant_uid"),
+        @UniqueConstraint(name = "uk_funding_imp_uid", columnNames = "imp_uid")
+}, indexes = {
+        // 회원/레스토랑별 펀딩 내역 최신순 keyset 페이지 (정렬까지 인덱스로 처리)
+        @Index(name = "idx_funding_member_created", columnList = "member_email, created_at, id"),
+        @Index(name = "idx_funding_restaurant_created", columnList = "restaurant_id, created_at, id"),
+        // 관리자 기간별 CSV 내보내기
+        @Index(name = "idx_funding_created_at", columnList = "created_at, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -21,7 +31,9 @@ import java.time.LocalDateTime;
 public class Funding {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 대량 INSERT를 JDBC 배치로 묶기 위해 시퀀스에서 50개씩 미리 받아 씀 (IDENTITY는 배치 불가)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "funding_seq")
+    @SequenceGenerator(name = "funding_seq", sequenceName = "funding_seq", allocationSize = 50)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
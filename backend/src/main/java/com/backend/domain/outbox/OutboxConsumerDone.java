@@ -0,0 +1,39 @@
+package com.backend.domain.outbox;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 소비자별 아웃박스 이벤트 처리 완료 기록 (OutboxConsumerLog).
+ * 한 이벤트의 소비자 중 하나가 실패해 이벤트가 다시 전달되어도, 이미 끝낸 소비자는 이 기록을 보고 건너뛴다.
+ */
+@Entity
+@Table(name = "outbox_consumer_done")
+@IdClass(OutboxConsumerDone.Key.class)
+@Getter
+@NoArgsConstructor
+public class OutboxConsumerDone {
+
+    @Id
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Id
+    @Column(name = "consumer", length = 100)
+    private String consumer;
+
+    @Column(name = "done_at", nullable = false)
+    private LocalDateTime doneAt;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long eventId;
+        private String consumer;
+    }
+}
@@ -0,0 +1,7 @@
+package com.backend.domain.outbox;
+
+public enum OutboxStatus {
+    PENDING,   // 전달 대기(재시도 포함)
+    DONE,      // 모든 소비자 처리 완료
+    DEAD       // 최대 재시도 초과, 수동 확인 필요
+}
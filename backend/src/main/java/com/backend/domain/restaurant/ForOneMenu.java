@@ -3,6 +3,7 @@ package com.backend.domain.restaurant;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -11,6 +12,7 @@ import java.time.LocalDateTime;
 @Builder
 @NoArgsConstructor @AllArgsConstructor
 @Entity
+@DynamicUpdate // 상태 전환이 참여 인원(별도 일괄 기록)을 덮어쓰지 않도록 바뀐 컬럼만 UPDATE
 @Table(
     name = "for_one_menu",
     indexes = {
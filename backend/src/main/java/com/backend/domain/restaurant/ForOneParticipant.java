@@ -0,0 +1,41 @@
+package com.backend.domain.restaurant;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 한그릇 슬롯 참여자 (회원 이메일). 같은 회원의 중복 참여와 남의 참여 취소를 막는 기준이다.
+ * ForOneAdmissionService가 메모리 카운터와 함께 주기적으로 기록한다.
+ */
+@Entity
+@Table(name = "for_one_participant", indexes = {
+        @Index(name = "idx_fop_member", columnList = "member_email")
+})
+@IdClass(ForOneParticipant.Key.class)
+@Getter
+@NoArgsConstructor
+public class ForOneParticipant {
+
+    @Id
+    @Column(name = "for_one_menu_id")
+    private Long forOneMenuId;
+
+    @Id
+    @Column(name = "member_email")
+    private String memberEmail;
+
+    @Column(name = "joined_at", nullable = false)
+    private LocalDateTime joinedAt;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long forOneMenuId;
+        private String memberEmail;
+    }
+}
@@ -2,10 +2,16 @@ package com.backend.domain.restaurant;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnTransformer;
+
+import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "restaurant")
+@Table(name = "restaurant",
+indexes = {
+@Index(name = "idx_restaurant_category", columnList = "category_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -24,6 +30,9 @@ public class Restaurant {
     @Column(name = "category_name", length = 200)
     private String categoryName; // 카테고리명 (음식점 > 한식 등)
 
+    @Column(name = "category_id")
+    private Long categoryId; // categoryName을 파싱한 최하위 카테고리 (restaurant_category.id)
+
     @Column(name = "phone", length = 50)
     private String phone; // 전화번호
 
@@ -36,6 +45,11 @@ public class Restaurant {
     @Column(name = "y", nullable = false)
     private Double y; // 위도(Latitude)
 
+    // x/y를 POINT(경도 위도)로 복제한 컬럼 (SPATIAL 인덱스용, 저장 시 자동 동기화)
+    @Column(name = "location", columnDefinition = "POINT")
+    @ColumnTransformer(read = "ST_AsText(location)", write = "ST_GeomFromText(?)")
+    private String location;
+
     @Column(name = "place_url", length = 500)
     private String placeUrl; // 카카오 장소 URL
 
@@ -48,6 +62,18 @@ public class Restaurant {
     @Column(name = "funding_goal_amount", nullable = false)
     private Long fundingGoalAmount; // 목표 펀딩 금액(₩
 
+    // COMPLETED 펀딩 합계(₩). 펀딩 생성/취소 시 증감, FundingReconciliationJob이 원장과 대조
+    @Builder.Default
+    @Column(name = "total_funding_amount", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long totalFundingAmount = 0L;
+
+    // 대표 이미지 비정규화 (restaurant_image 변경 시 RestaurantRepository.refreshMainImage로 갱신)
+    @Column(name = "main_image_id")
+    private Long mainImageId;
+
+    @Column(name = "main_image_url", length = 1000)
+    private String mainImageUrl;
+
     @Column(name = "funding_start_date")
     private LocalDate fundingStartDate; // 펀딩 시작일
 
@@ -56,4 +82,12 @@ public class Restaurant {
     
     @OneToOne(mappedBy = "restaurant", cascade = CascadeType.ALL, fetch = FetchType.LAZY, optional = true)
     private RestaurantDescription description;
+
+    @PrePersist
+    @PreUpdate
+    private void syncLocation() {
+        if (x != null && y != null) {
+            location = "POINT(" + BigDecimal.valueOf(x).toPlainString() + " " + BigDecimal.valueOf(y).toPlainString() + ")";
+        }
+    }
 }
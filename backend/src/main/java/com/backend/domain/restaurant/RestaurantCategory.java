@@ -0,0 +1,41 @@
+// src/main/java/com/backend/domain/restaurant/RestaurantCategory.java
+package com.backend.domain.restaurant;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * category_name("음식점 > 한식 > 찌개,전골")을 단계별로 나눈 카테고리 트리의 노드.
+ * 같은 경로는 한 번만 저장되며, restaurant.category_id는 가장 하위 노드를 가리킨다.
+ */
+@Entity
+@Table(name = "restaurant_category",
+indexes = {
+@Index(name = "idx_category_parent", columnList = "parent_id")
+},
+uniqueConstraints = {
+@UniqueConstraint(name = "uk_category_path", columnNames = "path")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RestaurantCategory {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "parent_id")
+    private Long parentId; // 최상위면 null
+
+    @Column(name = "depth", nullable = false)
+    private Integer depth; // 최상위 0
+
+    @Column(name = "name", nullable = false, length = 100)
+    private String name; // 이 단계의 이름 (예: 한식)
+
+    @Column(name = "path", nullable = false, length = 300)
+    private String path; // 최상위부터의 전체 경로 (예: 음식점 > 한식)
+}
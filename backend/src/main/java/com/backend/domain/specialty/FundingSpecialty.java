@@ -9,7 +9,10 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "funding_specialty")
+@Table(name = "funding_specialty", indexes = {
+        // 기간별 주문 조회/관리자 CSV 내보내기
+        @Index(name = "idx_funding_specialty_created_at", columnList = "created_at, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -18,7 +21,9 @@ import java.time.LocalDateTime;
 public class FundingSpecialty {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 대량 INSERT를 JDBC 배치로 묶기 위해 시퀀스에서 50개씩 미리 받아 씀 (IDENTITY는 배치 불가)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "funding_specialty_seq")
+    @SequenceGenerator(name = "funding_specialty_seq", sequenceName = "funding_specialty_seq", allocationSize = 50)
     private Long id;
 
     // 회원 정보
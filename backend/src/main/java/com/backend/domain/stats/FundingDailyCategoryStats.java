@@ -0,0 +1,45 @@
+package com.backend.domain.stats;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 일별·카테고리별 펀딩 집계.
+ * COMPLETED 펀딩만 집계하며, FundingStatsRollup이 아웃박스 이벤트로 증감한다 (INSERT ... ON DUPLICATE KEY UPDATE).
+ */
+@Entity
+@Table(name = "funding_daily_category_stats", indexes = {
+        // 복합 PK의 컬럼 순서는 Hibernate가 정하므로 조회 조건에 맞는 인덱스를 따로 둔다
+        @Index(name = "idx_fdcs_date", columnList = "stat_date")
+})
+@IdClass(FundingDailyCategoryStats.Key.class)
+@Getter
+@NoArgsConstructor
+public class FundingDailyCategoryStats {
+
+    @Id
+    @Column(name = "stat_date")
+    private LocalDate statDate;
+
+    @Id
+    @Column(name = "category_name")
+    private String categoryName;
+
+    @Column(name = "funding_count", nullable = false)
+    private long fundingCount;
+
+    @Column(name = "funding_amount", nullable = false)
+    private long fundingAmount;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private LocalDate statDate;
+        private String categoryName;
+    }
+}
@@ -0,0 +1,43 @@
+package com.backend.domain.stats;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 일별·음식점별 펀딩 집계 (음식점 대시보드용). 갱신 방식은 FundingDailyCategoryStats와 같다.
+ */
+@Entity
+@Table(name = "funding_daily_restaurant_stats", indexes = {
+        @Index(name = "idx_fdrs_restaurant_date", columnList = "restaurant_id, stat_date")
+})
+@IdClass(FundingDailyRestaurantStats.Key.class)
+@Getter
+@NoArgsConstructor
+public class FundingDailyRestaurantStats {
+
+    @Id
+    @Column(name = "stat_date")
+    private LocalDate statDate;
+
+    @Id
+    @Column(name = "restaurant_id")
+    private Long restaurantId;
+
+    @Column(name = "funding_count", nullable = false)
+    private long fundingCount;
+
+    @Column(name = "funding_amount", nullable = false)
+    private long fundingAmount;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private LocalDate statDate;
+        private Long restaurantId;
+    }
+}
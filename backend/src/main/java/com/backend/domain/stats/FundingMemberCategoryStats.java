@@ -0,0 +1,42 @@
+package com.backend.domain.stats;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * 회원·카테고리별 펀딩 집계 (카테고리 비율 차트, 카테고리 기반 추천용).
+ */
+@Entity
+@Table(name = "funding_member_category_stats", indexes = {
+        @Index(name = "idx_fmcs_member", columnList = "member_email")
+})
+@IdClass(FundingMemberCategoryStats.Key.class)
+@Getter
+@NoArgsConstructor
+public class FundingMemberCategoryStats {
+
+    @Id
+    @Column(name = "member_email")
+    private String memberEmail;
+
+    @Id
+    @Column(name = "category_name")
+    private String categoryName;
+
+    @Column(name = "funding_count", nullable = false)
+    private long fundingCount;
+
+    @Column(name = "funding_amount", nullable = false)
+    private long fundingAmount;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private String memberEmail;
+        private String categoryName;
+    }
+}
@@ -0,0 +1,45 @@
+package com.backend.domain.stats;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * 회원·음식점별 펀딩 집계 (자주 펀딩한 음식점 차트용).
+ */
+@Entity
+@Table(name = "funding_member_restaurant_stats", indexes = {
+        @Index(name = "idx_fmrs_member", columnList = "member_email")
+})
+@IdClass(FundingMemberRestaurantStats.Key.class)
+@Getter
+@NoArgsConstructor
+public class FundingMemberRestaurantStats {
+
+    @Id
+    @Column(name = "member_email")
+    private String memberEmail;
+
+    @Id
+    @Column(name = "restaurant_id")
+    private Long restaurantId;
+
+    @Column(name = "restaurant_name")
+    private String restaurantName;
+
+    @Column(name = "funding_count", nullable = false)
+    private long fundingCount;
+
+    @Column(name = "funding_amount", nullable = false)
+    private long fundingAmount;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private String memberEmail;
+        private Long restaurantId;
+    }
+}
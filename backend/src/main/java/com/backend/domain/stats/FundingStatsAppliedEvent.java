@@ -0,0 +1,26 @@
+package com.backend.domain.stats;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 집계에 이미 반영한 아웃박스 이벤트 ID. 아웃박스는 같은 이벤트를 다시 전달할 수 있으므로
+ * 집계 증감과 같은 트랜잭션에서 INSERT IGNORE 하여 한 번만 반영되게 한다.
+ */
+@Entity
+@Table(name = "funding_stats_applied", indexes = {
+        @Index(name = "idx_funding_stats_applied_at", columnList = "applied_at")
+})
+@Getter
+@NoArgsConstructor
+public class FundingStatsAppliedEvent {
+
+    @Id
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt;
+}
@@ -0,0 +1,20 @@
+package com.backend.dto.common;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 기반 목록 응답. COUNT 쿼리 없이 다음 페이지 존재 여부와 이어받을 커서만 내려준다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorSliceDTO<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor; // 다음 요청에 그대로 전달 (hasNext=false면 null)
+}
@@ -0,0 +1,15 @@
+package com.backend.dto.forone;
+
+import lombok.*;
+
+@Getter
+@Builder
+@ToString
+public class ForOneJoinResultDTO {
+
+    private Long slotId;
+    private boolean accepted;           // 참여/취소 반영 여부 (정원 초과, 참여자 없음이면 false)
+    private String reason;              // 거부 사유 (FULL, ALREADY_JOINED, NOT_JOINED). 반영되면 null
+    private int currentParticipants;
+    private Integer maxParticipants;
+}
@@ -0,0 +1,15 @@
+package com.backend.dto.forone;
+
+import com.backend.domain.restaurant.ForOneStatus;
+import lombok.*;
+
+/** SSE로 보내는 슬롯 변경분 */
+@Getter
+@AllArgsConstructor
+@ToString
+public class ForOneSlotDeltaDTO {
+
+    private Long slotId;
+    private int currentParticipants;
+    private ForOneStatus status;
+}
@@ -0,0 +1,22 @@
+package com.backend.dto.member;
+
+import com.backend.domain.member.Funding;
+
+import java.time.LocalDateTime;
+
+/**
+ * 펀딩 내역 목록용 프로젝션 (FundingDTO와 같은 컬럼만 SELECT, 엔티티/연관관계 로딩 없음)
+ */
+public interface FundingHistoryView {
+    Long getId();
+    String getRestaurantName();
+    String getMenuInfo();
+    Long getTotalAmount();
+    String getPaymentMethod();
+    String getImpUid();
+    String getMerchantUid();
+    Boolean getAgreeSMS();
+    Boolean getAgreeEmail();
+    Funding.FundingStatus getStatus();
+    LocalDateTime getCreatedAt();
+}
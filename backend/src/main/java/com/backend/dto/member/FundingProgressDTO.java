@@ -0,0 +1,18 @@
+package com.backend.dto.member;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FundingProgressDTO {
+    
+    private Long restaurantId;
+    private long fundingAmount;      // funding_amount + total_funding_amount (아직 DB에 안 쓰인 증감분 포함)
+    private long fundingGoalAmount;
+    private Integer fundingPercent;  // 0~100, 목표 0이면 null
+}
@@ -0,0 +1,19 @@
+package com.backend.dto.outbox;
+
+import lombok.*;
+
+@Getter
+@Builder
+@ToString
+public class OutboxStatsDTO {
+
+    private long pending;                 // 전달 대기 (재시도 대기 포함)
+    private long dead;                    // 최대 재시도 초과
+    private Long oldestPendingAgeMillis;  // 가장 오래된 대기 이벤트의 나이 (없으면 null)
+    private long lastBatchLagMillis;      // 마지막 배치에서 처리된 이벤트의 생성→처리 최대 지연
+    private long delivered;               // 기동 후 누적 (이하 동일)
+    private long failed;
+    private long deadLettered;
+    private int activeWorkers;
+    private int queuedTasks;
+}
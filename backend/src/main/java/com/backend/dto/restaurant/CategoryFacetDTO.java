@@ -0,0 +1,16 @@
+package com.backend.dto.restaurant;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CategoryFacetDTO {
+	private Long id;          // restaurant_category.id
+	private Long parentId;    // 최상위면 null
+	private int depth;        // 최상위 0
+	private String name;      // 이 단계 이름 (예: 한식)
+	private long count;       // 검색 결과 중 이 카테고리(하위 포함)에 속한 음식점 수
+}
@@ -0,0 +1,16 @@
+package com.backend.dto.restaurant;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CategoryFacetsDTO {
+	private long total;                 // 반경 안 전체 음식점 수
+	private List<Long> levelTotals;     // 단계(depth)별로 해당 단계 카테고리가 있는 음식점 수
+	private List<CategoryFacetDTO> facets; // depth, count 내림차순
+}
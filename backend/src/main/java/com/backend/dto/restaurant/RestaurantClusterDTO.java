@@ -0,0 +1,18 @@
+package com.backend.dto.restaurant;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class RestaurantClusterDTO {
+	private double lat;                 // 무게중심 위도
+	private double lng;                 // 무게중심 경도
+	private int count;                  // 셀 안의 음식점 수
+	private Integer avgFundingPercent;  // 목표가 있는 음식점들의 평균 펀딩률(0~100)
+	private Long restaurantId;          // count == 1이면 해당 음식점 ID (핀 바로 표시용)
+}
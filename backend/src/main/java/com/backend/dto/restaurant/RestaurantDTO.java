@@ -2,6 +2,8 @@ package com.backend.dto.restaurant;
 
 import lombok.*;
 
+import java.util.List;
+
 
 @Getter
 @Setter
@@ -22,6 +24,7 @@ public class RestaurantDTO {
   private Long fundingAmount;
   private Long fundingGoalAmount;
   private Integer fundingPercent; // 0~100
+  private Long totalFundingAmount; // 펀딩 누적 금액 (restaurant.total_funding_amount)
 
   private String imageUrl; // 대표 이미지 URL
 
@@ -37,4 +40,7 @@ public class RestaurantDTO {
   // 펀딩 기간 (서버 기동 시 자동 생성/저장)
   private String fundingStartDate; // ISO yyyy-MM-dd
   private String fundingEndDate;   // ISO yyyy-MM-dd
+
+  // 메뉴 (상세 조회 시 함께 반환)
+  private List<MenuDTO> menus;
 } 
\ No newline at end of file
@@ -0,0 +1,43 @@
+// src/main/java/com/backend/dto/restaurant/RestaurantDetailRowView.java
+package com.backend.dto.restaurant;
+
+import java.sql.Date;
+
+/**
+ * 상세 화면 조회 한 행 = 음식점 + 확장 정보 + 메뉴 1개.
+ * 메뉴가 없으면 menu* 컬럼이 null인 한 행만 온다.
+ */
+public interface RestaurantDetailRowView {
+    Long getId();
+    String getName();
+    String getCategoryName();
+    String getPhone();
+    String getRoadAddressName();
+    Double getX();
+    Double getY();
+    String getPlaceUrl();
+
+    Long getFundingAmount();
+    Long getFundingGoalAmount();
+    Long getTotalFundingAmount();
+    Date getFundingStartDate();
+    Date getFundingEndDate();
+
+    String getImageUrl();           // 대표 이미지 (restaurant.main_image_url)
+
+    // restaurant_detail
+    String getDescription();
+    String getBusinessHours();
+    String getPriceRange();
+    String getTags();
+    String getHomepageUrl();
+    String getInstagramUrl();
+    String getNotice();
+
+    // menu
+    Long getMenuId();
+    String getMenuName();
+    String getMenuDescription();
+    Integer getMenuPrice();
+    String getMenuImageUrl();
+}
@@ -0,0 +1,11 @@
+// src/main/java/com/backend/dto/restaurant/RestaurantPointView.java
+package com.backend.dto.restaurant;
+
+public interface RestaurantPointView {
+    Long getId();
+    Double getX();   // 경도
+    Double getY();   // 위도
+    Long getFundingAmount();
+    Long getFundingGoalAmount();
+    Long getCategoryId();
+}
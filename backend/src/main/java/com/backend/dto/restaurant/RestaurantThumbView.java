@@ -9,6 +9,7 @@ public interface RestaurantThumbView {
     String getRoadAddressName();
     String getPlaceUrl();
     String getCategoryName();
+    Long getCategoryId();           // 최하위 카테고리 (restaurant_category.id)
 
     Double getDistance();           // m (동적 계산)
     Long getFundingAmount();
@@ -0,0 +1,23 @@
+package com.backend.dto.stats;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 사전 집계된 펀딩 통계 한 행. 조회 종류에 따라 statDate / categoryName / restaurantId 중 일부만 채워진다.
+ */
+@Getter
+@Builder
+@ToString
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class FundingStatDTO {
+
+    private LocalDate statDate;
+    private String categoryName;
+    private Long restaurantId;
+    private String restaurantName;
+    private long fundingCount;   // COMPLETED 펀딩 건수
+    private long fundingAmount;  // COMPLETED 펀딩 금액 합계
+}
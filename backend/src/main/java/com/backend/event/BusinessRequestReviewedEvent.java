@@ -0,0 +1,13 @@
+package com.backend.event;
+
+/**
+ * 가게요청 승인/거부 (아웃박스 이벤트). 알림 생성과 대표 이미지 복사는 커밋 후 소비자가 처리한다.
+ * restaurantId: 승인으로 생성된 음식점 (거부되었거나 생성 실패면 null)
+ */
+public record BusinessRequestReviewedEvent(Long businessRequestId, String status, String requesterEmail,
+                                           String businessName, String reviewComment,
+                                           Long restaurantId, String imageUrl) {
+
+    public static final String AGGREGATE = "BUSINESS_REQUEST";
+    public static final String TYPE = "BUSINESS_REQUEST_REVIEWED";
+}
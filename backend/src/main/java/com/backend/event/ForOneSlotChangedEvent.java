@@ -0,0 +1,9 @@
+package com.backend.event;
+
+import com.backend.domain.restaurant.ForOneStatus;
+
+/**
+ * 한그릇 펀딩 슬롯의 참여 인원이나 상태가 바뀌었을 때 발행.
+ */
+public record ForOneSlotChangedEvent(Long slotId, Long restaurantId, int currentParticipants, ForOneStatus status) {
+}
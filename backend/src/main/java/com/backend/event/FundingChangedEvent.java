@@ -0,0 +1,8 @@
+package com.backend.event;
+
+/**
+ * 펀딩 생성/상태 변경으로 레스토랑 누적 금액이 바뀌었을 때 발행.
+ * delta: total_funding_amount 증감분 (취소/환불이면 음수). DB 반영은 FundingProgressService가 모아서 한다
+ */
+public record FundingChangedEvent(Long fundingId, Long restaurantId, long delta) {
+}
@@ -0,0 +1,13 @@
+package com.backend.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 펀딩 결제 저장 (아웃박스 이벤트). 통계/알림 등 부가 처리용
+ */
+public record FundingCreatedEvent(Long fundingId, Long restaurantId, String memberId, long amount,
+                                  String status, LocalDateTime createdAt) {
+
+    public static final String AGGREGATE = "FUNDING";
+    public static final String TYPE = "FUNDING_CREATED";
+}
@@ -0,0 +1,10 @@
+package com.backend.event;
+
+import java.util.Set;
+
+/**
+ * 메모리에 쌓인 펀딩 증감분이 restaurant.total_funding_amount에 기록된 뒤 발행.
+ * DB 값을 읽어 만든 캐시/스냅샷은 이 이벤트로 갱신한다 (FundingChangedEvent 시점에는 DB가 아직 안 바뀜).
+ */
+public record FundingProgressFlushedEvent(Set<Long> restaurantIds) {
+}
@@ -0,0 +1,14 @@
+package com.backend.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 펀딩 상태 변경(취소/환불 등) (아웃박스 이벤트). 같은 펀딩의 FundingCreatedEvent 뒤에 전달된다
+ */
+public record FundingStatusChangedEvent(Long fundingId, Long restaurantId, String memberId, long amount,
+                                        String previousStatus, String status,
+                                        LocalDateTime fundingCreatedAt, LocalDateTime changedAt) {
+
+    public static final String AGGREGATE = "FUNDING";
+    public static final String TYPE = "FUNDING_STATUS_CHANGED";
+}
@@ -0,0 +1,7 @@
+package com.backend.event;
+
+/**
+ * 음식점이 새로 생기거나(가게요청 승인) 정보가 바뀌었을 때 발행.
+ */
+public record RestaurantChangedEvent(Long restaurantId) {
+}
@@ -1,11 +1,17 @@
 package com.backend.repository.member;
 
 import com.backend.domain.member.Funding;
+import com.backend.dto.member.FundingHistoryView;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface FundingRepository extends JpaRepository<Funding, Long> {
     
@@ -14,4 +20,50 @@ public interface FundingRepository extends JpaRepository<Funding, Long> {
     
     @Query("SELECT f FROM Funding f WHERE f.restaurant.id = :restaurantId ORDER BY f.createdAt DESC")
     List<Funding> findByRestaurantIdOrderByCreatedAtDesc(@Param("restaurantId") Long restaurantId);
-} 
\ No newline at end of file
+    
+    // 펀딩 내역 커서 페이지: 최신순 (created_at, id) keyset. idx_funding_member_created / idx_funding_restaurant_created 사용
+    String HISTORY_COLUMNS = "f.id AS id, f.restaurantName AS restaurantName, f.menuInfo AS menuInfo, "
+            + "f.totalAmount AS totalAmount, f.paymentMethod AS paymentMethod, f.impUid AS impUid, "
+            + "f.merchantUid AS merchantUid, f.agreeSMS AS agreeSMS, f.agreeEmail AS agreeEmail, "
+            + "f.status AS status, f.createdAt AS createdAt";
+    
+    @Query("SELECT " + HISTORY_COLUMNS + " FROM Funding f WHERE f.member.email = :memberId "
+            + "ORDER BY f.createdAt DESC, f.id DESC")
+    List<FundingHistoryView> findMemberHistory(@Param("memberId") String memberId, Pageable pageable);
+    
+    @Query("SELECT " + HISTORY_COLUMNS + " FROM Funding f WHERE f.member.email = :memberId "
+            + "AND (f.createdAt < :afterCreatedAt OR (f.createdAt = :afterCreatedAt AND f.id < :afterId)) "
+            + "ORDER BY f.createdAt DESC, f.id DESC")
+    List<FundingHistoryView> findMemberHistoryAfter(@Param("memberId") String memberId,
+                                                    @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                                    @Param("afterId") Long afterId,
+                                                    Pageable pageable);
+    
+    @Query("SELECT " + HISTORY_COLUMNS + " FROM Funding f WHERE f.restaurant.id = :restaurantId "
+            + "ORDER BY f.createdAt DESC, f.id DESC")
+    List<FundingHistoryView> findRestaurantHistory(@Param("restaurantId") Long restaurantId, Pageable pageable);
+    
+    @Query("SELECT " + HISTORY_COLUMNS + " FROM Funding f WHERE f.restaurant.id = :restaurantId "
+            + "AND (f.createdAt < :afterCreatedAt OR (f.createdAt = :afterCreatedAt AND f.id < :afterId)) "
+            + "ORDER BY f.createdAt DESC, f.id DESC")
+    List<FundingHistoryView> findRestaurantHistoryAfter(@Param("restaurantId") Long restaurantId,
+                                                        @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                                        @Param("afterId") Long afterId,
+                                                        Pageable pageable);
+    
+    // 상태 변경 시 동시 취소/환불로 금액이 두 번 빠지지 않도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT f FROM Funding f WHERE f.id = :id")
+    Optional<Funding> findByIdForUpdate(@Param("id") Long id);
+    
+    // 결제 멱등 처리용 (유니크 인덱스 이전에 쌓인 중복이 있을 수 있어 첫 건만)
+    Optional<Funding> findFirstByMerchantUidOrderByIdAsc(String merchantUid);
+    
+    Optional<Funding> findFirstByImpUidOrderByIdAsc(String impUid);
+    
+    @Query("SELECT f.merchantUid FROM Funding f WHERE f.merchantUid IS NOT NULL")
+    List<String> findAllMerchantUids();
+    
+    @Query("SELECT f.impUid FROM Funding f WHERE f.impUid IS NOT NULL")
+    List<String> findAllImpUids();
+}
@@ -0,0 +1,8 @@
+package com.backend.repository.outbox;
+
+import com.backend.domain.outbox.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+// 읽기/상태 변경은 OutboxDispatcher가 JDBC 배치로 처리하고, 여기서는 업무 트랜잭션 안의 INSERT만 한다
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+}
@@ -6,6 +6,9 @@ import org.springframework.data.domain.*;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface ForOneMenuRepository extends JpaRepository<ForOneMenu, Long> {
 
   @Query(value = """
@@ -24,7 +27,7 @@ public interface ForOneMenuRepository extends JpaRepository<ForOneMenu, Long> {
       r.id                         AS restaurantId,
       r.name                       AS restaurantName,
       r.road_address_name          AS roadAddressName,
-      ST_Distance_Sphere(POINT(r.x, r.y), POINT(:lng, :lat)) AS distance,
+      ST_Distance_Sphere(r.location, POINT(:lng, :lat)) AS distance,
 
       m.image_url                  AS imageUrl   -- ✅ menu 테이블에서 직접 가져오기
 
@@ -32,9 +35,10 @@ public interface ForOneMenuRepository extends JpaRepository<ForOneMenu, Long> {
     JOIN menu m ON f.menu_id = m.id
     JOIN restaurant r ON m.restaurant_id = r.id
 
-    WHERE f.status = 'ACTIVE'
+    WHERE f.status = 'ACTIVE'   -- 상태 전환은 ForOneLifecycleScheduler가 하지만, 전환 전(tick 지연, 기록 실패)에도 기간 밖은 제외
       AND NOW() BETWEEN f.starts_at AND f.ends_at
-      AND ST_Distance_Sphere(POINT(r.x, r.y), POINT(:lng, :lat)) <= :radius
+      AND MBRContains(ST_GeomFromText(:bbox), r.location)
+      AND ST_Distance_Sphere(r.location, POINT(:lng, :lat)) <= :radius
 
     ORDER BY distance ASC
     """,
@@ -45,14 +49,20 @@ public interface ForOneMenuRepository extends JpaRepository<ForOneMenu, Long> {
     JOIN restaurant r ON m.restaurant_id = r.id
     WHERE f.status = 'ACTIVE'
       AND NOW() BETWEEN f.starts_at AND f.ends_at
-      AND ST_Distance_Sphere(POINT(r.x, r.y), POINT(:lng, :lat)) <= :radius
+      AND MBRContains(ST_GeomFromText(:bbox), r.location)
+      AND ST_Distance_Sphere(r.location, POINT(:lng, :lat)) <= :radius
     """,
     nativeQuery = true)
 Page<ForOneMenuNearbyView> findNearbyForOneMenus(
         @Param("lat") double lat,
         @Param("lng") double lng,
         @Param("radius") double radius,
+        @Param("bbox") String bbox,
         Pageable pageable
 );
 
+  // 상태 전환 대상 (음식점 ID까지 한 번에)
+  @Query("SELECT f FROM ForOneMenu f JOIN FETCH f.menu m WHERE f.id IN :ids")
+  List<ForOneMenu> findAllWithMenuByIdIn(@Param("ids") Collection<Long> ids);
+
 }
@@ -0,0 +1,7 @@
+package com.backend.repository.restaurant;
+
+import com.backend.domain.restaurant.RestaurantCategory;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface RestaurantCategoryRepository extends JpaRepository<RestaurantCategory, Long> {
+}
@@ -14,6 +14,7 @@ public interface RestaurantImageRepository extends JpaRepository<RestaurantImage
 
     Optional<RestaurantImage> findByIdAndRestaurantId(Long imageId, Long restaurantId);
 
+    // 호출 후 RestaurantRepository.refreshMainImage(restaurantId)로 대표 이미지 컬럼도 갱신할 것
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("update RestaurantImage i set i.isMain = false where i.restaurant.id = :restaurantId")
     int clearMain(@Param("restaurantId") Long restaurantId);
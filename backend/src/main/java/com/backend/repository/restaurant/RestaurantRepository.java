@@ -2,17 +2,21 @@
 package com.backend.repository.restaurant;
 
 import com.backend.domain.restaurant.Restaurant;
+import com.backend.dto.restaurant.RestaurantDetailRowView;
+import com.backend.dto.restaurant.RestaurantPointView;
 import com.backend.dto.restaurant.RestaurantThumbView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 
 public interface RestaurantRepository extends JpaRepository<Restaurant, Long> {
 
 	// ✅ 기존 findNearbyPage(...)는 놔둬도 되지만, 프론트엔 이걸 쓰는 걸 추천
+	// bbox: GeoUtils.boundingBoxWkt(...) 결과. SPATIAL 인덱스(location)로 후보를 먼저 줄인 뒤 정확한 거리로 거른다
 	@Query(value = """
 		SELECT
 		  r.id                                        AS restaurantId,
@@ -20,12 +24,13 @@ public interface RestaurantRepository extends JpaRepository<Restaurant, Long> {
 		  r.road_address_name                         AS roadAddressName,
 		  r.place_url                                 AS placeUrl,
 		  r.category_name                             AS categoryName,
+		  r.category_id                               AS categoryId,
 		  r.funding_amount                            AS fundingAmount,
 		  r.funding_goal_amount                       AS fundingGoalAmount,
 		  LEAST(100, GREATEST(0,
 			   ROUND((r.funding_amount * 100.0) / NULLIF(r.funding_goal_amount, 0))
 		  ))                                          AS fundingPercent,
-		  ST_Distance_Sphere(POINT(r.x, r.y), POINT(:lng, :lat)) AS distance,
+		  ST_Distance_Sphere(r.location, POINT(:lng, :lat)) AS distance,
 
 		  i.id                                        AS imageId,
 		  i.image_url                                 AS imageUrl,
@@ -35,63 +40,280 @@ public interface RestaurantRepository extends JpaRepository<Restaurant, Long> {
 		  r.funding_start_date                        AS fundingStartDate,
 		  r.funding_end_date                          AS fundingEndDate,
 		  
-		  COALESCE(SUM(f.total_amount), 0)           AS totalFundingAmount
+		  r.total_funding_amount                      AS totalFundingAmount
 		FROM restaurant r
-		LEFT JOIN (
-			SELECT *
-			FROM (
-				SELECT ri.*,
-				       ROW_NUMBER() OVER (
-					 PARTITION BY ri.restaurant_id
-					 ORDER BY ri.is_main DESC, ri.sort_order ASC, ri.id ASC
-				       ) AS rn
-				FROM restaurant_image ri
-			) t
-			WHERE t.rn = 1
-		) i ON i.restaurant_id = r.id
-		LEFT JOIN funding f ON f.restaurant_id = r.id AND f.status = 'COMPLETED'
-		WHERE ST_Distance_Sphere(POINT(r.x, r.y), POINT(:lng, :lat)) <= :radius
-		GROUP BY r.id, r.name, r.road_address_name, r.place_url, r.funding_amount, 
-		         r.funding_goal_amount, r.funding_start_date, r.funding_end_date,
-		         i.id, i.image_url, i.is_main, i.sort_order
+		LEFT JOIN restaurant_image i ON i.id = r.main_image_id
+		WHERE MBRContains(ST_GeomFromText(:bbox), r.location)
+		  AND ST_Distance_Sphere(r.location, POINT(:lng, :lat)) <= :radius
 		ORDER BY distance ASC
 		""",
 		countQuery = """
 		SELECT COUNT(1)
 		FROM restaurant r
-		WHERE ST_Distance_Sphere(POINT(r.x, r.y), POINT(:lng, :lat)) <= :radius
+		WHERE MBRContains(ST_GeomFromText(:bbox), r.location)
+		  AND ST_Distance_Sphere(r.location, POINT(:lng, :lat)) <= :radius
 		""",
 		nativeQuery = true)
 	Page<RestaurantThumbView> findNearbyThumbs(
 			@Param("lat") double lat,
 			@Param("lng") double lng,
 			@Param("radius") double radius,
+			@Param("bbox") String bbox,
 			Pageable pageable
 	);
 
+	// 카테고리 칩 필터 (categoryIds: 선택한 카테고리와 그 하위 전체)
 	@Query(value = """
-		SELECT r.id, r.name, r.category_name, r.phone, r.road_address_name, r.x, r.y, r.place_url,
-		       r.funding_amount, r.funding_goal_amount,
-		       i.image_url AS imageUrl
+		SELECT
+		  r.id                                        AS restaurantId,
+		  r.name                                      AS name,
+		  r.road_address_name                         AS roadAddressName,
+		  r.place_url                                 AS placeUrl,
+		  r.category_name                             AS categoryName,
+		  r.category_id                               AS categoryId,
+		  r.funding_amount                            AS fundingAmount,
+		  r.funding_goal_amount                       AS fundingGoalAmount,
+		  LEAST(100, GREATEST(0,
+			   ROUND((r.funding_amount * 100.0) / NULLIF(r.funding_goal_amount, 0))
+		  ))                                          AS fundingPercent,
+		  ST_Distance_Sphere(r.location, POINT(:lng, :lat)) AS distance,
+
+		  i.id                                        AS imageId,
+		  i.image_url                                 AS imageUrl,
+		  i.is_main                                   AS isMain,
+		  i.sort_order                                AS sortOrder,
+
+		  r.funding_start_date                        AS fundingStartDate,
+		  r.funding_end_date                          AS fundingEndDate,
+		  
+		  r.total_funding_amount                      AS totalFundingAmount
+		FROM restaurant r
+		LEFT JOIN restaurant_image i ON i.id = r.main_image_id
+		WHERE MBRContains(ST_GeomFromText(:bbox), r.location)
+		  AND ST_Distance_Sphere(r.location, POINT(:lng, :lat)) <= :radius
+		  AND r.category_id IN (:categoryIds)
+		ORDER BY distance ASC
+		""",
+		countQuery = """
+		SELECT COUNT(1)
+		FROM restaurant r
+		WHERE MBRContains(ST_GeomFromText(:bbox), r.location)
+		  AND ST_Distance_Sphere(r.location, POINT(:lng, :lat)) <= :radius
+		  AND r.category_id IN (:categoryIds)
+		""",
+		nativeQuery = true)
+	Page<RestaurantThumbView> findNearbyThumbsInCategories(
+			@Param("lat") double lat,
+			@Param("lng") double lng,
+			@Param("radius") double radius,
+			@Param("bbox") String bbox,
+			@Param("categoryIds") Collection<Long> categoryIds,
+			Pageable pageable
+	);
+
+	// 카테고리 집계용: 반경 안 음식점들의 category_id만 (집계는 애플리케이션에서)
+	@Query(value = """
+		SELECT r.category_id
 		FROM restaurant r
-		LEFT JOIN (
-			SELECT * FROM (
-				SELECT ri.*,
-				       ROW_NUMBER() OVER (
-				         PARTITION BY ri.restaurant_id
-				         ORDER BY ri.is_main DESC, ri.sort_order ASC, ri.id ASC
-				       ) AS rn
-				FROM restaurant_image ri
-			) t WHERE t.rn = 1
-		) i ON i.restaurant_id = r.id
+		WHERE MBRContains(ST_GeomFromText(:bbox), r.location)
+		  AND ST_Distance_Sphere(r.location, POINT(:lng, :lat)) <= :radius
+		""",
+		nativeQuery = true)
+	List<Long> findNearbyCategoryIds(
+			@Param("lat") double lat,
+			@Param("lng") double lng,
+			@Param("radius") double radius,
+			@Param("bbox") String bbox
+	);
+
+	// 커서(keyset) 방식: (distance, id)가 커서보다 뒤인 행만 LIMIT 만큼. COUNT/OFFSET 없음
+	@Query(value = """
+		SELECT
+		  r.id                                        AS restaurantId,
+		  r.name                                      AS name,
+		  r.road_address_name                         AS roadAddressName,
+		  r.place_url                                 AS placeUrl,
+		  r.category_name                             AS categoryName,
+		  r.category_id                               AS categoryId,
+		  r.funding_amount                            AS fundingAmount,
+		  r.funding_goal_amount                       AS fundingGoalAmount,
+		  LEAST(100, GREATEST(0,
+			   ROUND((r.funding_amount * 100.0) / NULLIF(r.funding_goal_amount, 0))
+		  ))                                          AS fundingPercent,
+		  ST_Distance_Sphere(r.location, POINT(:lng, :lat)) AS distance,
+
+		  i.id                                        AS imageId,
+		  i.image_url                                 AS imageUrl,
+		  i.is_main                                   AS isMain,
+		  i.sort_order                                AS sortOrder,
+
+		  r.funding_start_date                        AS fundingStartDate,
+		  r.funding_end_date                          AS fundingEndDate,
+
+		  r.total_funding_amount                      AS totalFundingAmount
+		FROM restaurant r
+		LEFT JOIN restaurant_image i ON i.id = r.main_image_id
+		WHERE MBRContains(ST_GeomFromText(:bbox), r.location)
+		  AND ST_Distance_Sphere(r.location, POINT(:lng, :lat)) <= :radius
+		  AND (ST_Distance_Sphere(r.location, POINT(:lng, :lat)) > :afterDistance
+		       OR (ST_Distance_Sphere(r.location, POINT(:lng, :lat)) = :afterDistance AND r.id > :afterId))
+		ORDER BY distance ASC, r.id ASC
+		LIMIT :limit
+		""",
+		nativeQuery = true)
+	List<RestaurantThumbView> findNearbyThumbsAfter(
+			@Param("lat") double lat,
+			@Param("lng") double lng,
+			@Param("radius") double radius,
+			@Param("bbox") String bbox,
+			@Param("afterDistance") double afterDistance,
+			@Param("afterId") long afterId,
+			@Param("limit") int limit
+	);
+
+	// 메모리 공간 인덱스(RestaurantGeoIndex) 적재용 좌표 목록
+	@Query("SELECT r.id AS id, r.x AS x, r.y AS y, r.fundingAmount AS fundingAmount, r.fundingGoalAmount AS fundingGoalAmount, r.categoryId AS categoryId FROM Restaurant r")
+	List<RestaurantPointView> findAllPoints();
+
+	// 공간 인덱스가 골라낸 후보 ID만 썸네일로 채움 (순서는 호출 측에서 맞춤)
+	@Query(value = """
+		SELECT
+		  r.id                                        AS restaurantId,
+		  r.name                                      AS name,
+		  r.road_address_name                         AS roadAddressName,
+		  r.place_url                                 AS placeUrl,
+		  r.category_name                             AS categoryName,
+		  r.category_id                               AS categoryId,
+		  r.funding_amount                            AS fundingAmount,
+		  r.funding_goal_amount                       AS fundingGoalAmount,
+		  LEAST(100, GREATEST(0,
+			   ROUND((r.funding_amount * 100.0) / NULLIF(r.funding_goal_amount, 0))
+		  ))                                          AS fundingPercent,
+		  ST_Distance_Sphere(r.location, POINT(:lng, :lat)) AS distance,
+
+		  i.id                                        AS imageId,
+		  i.image_url                                 AS imageUrl,
+		  i.is_main                                   AS isMain,
+		  i.sort_order                                AS sortOrder,
+
+		  r.funding_start_date                        AS fundingStartDate,
+		  r.funding_end_date                          AS fundingEndDate,
+
+		  r.total_funding_amount                      AS totalFundingAmount
+		FROM restaurant r
+		LEFT JOIN restaurant_image i ON i.id = r.main_image_id
+		WHERE r.id IN (:ids)
+		""",
+		nativeQuery = true)
+	List<RestaurantThumbView> findNearbyThumbsByIds(
+			@Param("lat") double lat,
+			@Param("lng") double lng,
+			@Param("ids") Collection<Long> ids
+	);
+
+	// ID 목록 일괄 조회 (찜 목록/펀딩 내역 등 목록 화면용, 거리 없음. 순서는 호출 측에서 맞춤)
+	@Query(value = """
+		SELECT
+		  r.id                                        AS restaurantId,
+		  r.name                                      AS name,
+		  r.road_address_name                         AS roadAddressName,
+		  r.place_url                                 AS placeUrl,
+		  r.category_name                             AS categoryName,
+		  r.category_id                               AS categoryId,
+		  r.funding_amount                            AS fundingAmount,
+		  r.funding_goal_amount                       AS fundingGoalAmount,
+		  LEAST(100, GREATEST(0,
+			   ROUND((r.funding_amount * 100.0) / NULLIF(r.funding_goal_amount, 0))
+		  ))                                          AS fundingPercent,
+		  NULL                                        AS distance,
+
+		  i.id                                        AS imageId,
+		  i.image_url                                 AS imageUrl,
+		  i.is_main                                   AS isMain,
+		  i.sort_order                                AS sortOrder,
+
+		  r.funding_start_date                        AS fundingStartDate,
+		  r.funding_end_date                          AS fundingEndDate,
+
+		  r.total_funding_amount                      AS totalFundingAmount
+		FROM restaurant r
+		LEFT JOIN restaurant_image i ON i.id = r.main_image_id
+		WHERE r.id IN (:ids)
+		""",
+		nativeQuery = true)
+	List<RestaurantThumbView> findThumbsByIds(@Param("ids") Collection<Long> ids);
+
+	// 상세 화면: 음식점 + 확장 정보 + 대표 이미지 + 메뉴를 한 번에 (메뉴 수만큼 행)
+	@Query(value = """
+		SELECT r.id, r.name,
+		       r.category_name        AS categoryName,
+		       r.phone,
+		       r.road_address_name    AS roadAddressName,
+		       r.x, r.y,
+		       r.place_url            AS placeUrl,
+		       r.funding_amount       AS fundingAmount,
+		       r.funding_goal_amount  AS fundingGoalAmount,
+		       r.total_funding_amount AS totalFundingAmount,
+		       r.funding_start_date   AS fundingStartDate,
+		       r.funding_end_date     AS fundingEndDate,
+		       r.main_image_url       AS imageUrl,
+
+		       d.description,
+		       d.business_hours       AS businessHours,
+		       d.price_range          AS priceRange,
+		       d.tags,
+		       d.homepage_url         AS homepageUrl,
+		       d.instagram_url        AS instagramUrl,
+		       d.notice,
+
+		       m.id                   AS menuId,
+		       m.name                 AS menuName,
+		       m.description          AS menuDescription,
+		       m.price                AS menuPrice,
+		       m.image_url            AS menuImageUrl
+		FROM restaurant r
+		LEFT JOIN restaurant_detail d ON d.id = r.id
+		LEFT JOIN menu m ON m.restaurant_id = r.id
 		WHERE r.id = :id
+		ORDER BY m.id
 	""",
 		nativeQuery = true)
-	Object findDetailRow(@Param("id") Long id);
+	List<RestaurantDetailRowView> findDetailRows(@Param("id") Long id);
 
-	default Optional<Object[]> findDetailRowAsArray(Long id) {
-		Object row = findDetailRow(id);
-		if (row == null) return Optional.empty();
-		return Optional.of((Object[]) row);
-	}
+	// 대표 이미지(main_image_id/url) 재계산: restaurant_image 추가/정렬 변경/삭제 후 호출
+	@Modifying(flushAutomatically = true)
+	@Query(value = """
+		UPDATE restaurant r
+		SET r.main_image_id = (
+		      SELECT ri.id FROM restaurant_image ri
+		      WHERE ri.restaurant_id = r.id
+		      ORDER BY ri.is_main DESC, ri.sort_order ASC, ri.id ASC
+		      LIMIT 1),
+		    r.main_image_url = (
+		      SELECT ri.image_url FROM restaurant_image ri
+		      WHERE ri.restaurant_id = r.id
+		      ORDER BY ri.is_main DESC, ri.sort_order ASC, ri.id ASC
+		      LIMIT 1)
+		WHERE r.id = :id
+		""",
+		nativeQuery = true)
+	int refreshMainImage(@Param("id") Long id);
+
+	// 기동 시 전체 백필용 (CSV 적재 등 엔티티를 거치지 않은 이미지 반영)
+	@Modifying
+	@Query(value = """
+		UPDATE restaurant r
+		SET r.main_image_id = (
+		      SELECT ri.id FROM restaurant_image ri
+		      WHERE ri.restaurant_id = r.id
+		      ORDER BY ri.is_main DESC, ri.sort_order ASC, ri.id ASC
+		      LIMIT 1),
+		    r.main_image_url = (
+		      SELECT ri.image_url FROM restaurant_image ri
+		      WHERE ri.restaurant_id = r.id
+		      ORDER BY ri.is_main DESC, ri.sort_order ASC, ri.id ASC
+		      LIMIT 1)
+		""",
+		nativeQuery = true)
+	int refreshAllMainImages();
 }
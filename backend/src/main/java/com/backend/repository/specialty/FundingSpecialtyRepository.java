@@ -52,4 +52,8 @@ public interface FundingSpecialtyRepository extends JpaRepository<FundingSpecial
     // 회원의 총 구매 금액
     @Query("SELECT SUM(fs.totalAmount) FROM FundingSpecialty fs WHERE fs.memberId = :memberId AND fs.orderStatus = 'PAID'")
     Long getTotalAmountByMemberId(@Param("memberId") String memberId);
-} 
\ No newline at end of file
+
+    // 결제 완료된 주문번호 (결제 완료 멱등 처리의 블룸 필터 적재용)
+    @Query("SELECT fs.merchantUid FROM FundingSpecialty fs WHERE fs.orderStatus = 'PAID' AND fs.merchantUid IS NOT NULL")
+    List<String> findPaidMerchantUids();
+}
@@ -16,6 +16,10 @@ public interface WishlistRepository extends JpaRepository<Wishlist, Long> {
     @Query("SELECT w FROM Wishlist w WHERE w.memberEmail = :memberEmail ORDER BY w.createdAt DESC")
     List<Wishlist> findByMemberEmail(@Param("memberEmail") String memberEmail);
 
+    // 사용자의 찜 목록 + 레스토랑 한 번에 조회 (레스토랑 지연 로딩 N+1 방지)
+    @Query("SELECT w FROM Wishlist w JOIN FETCH w.restaurant WHERE w.memberEmail = :memberEmail ORDER BY w.createdAt DESC")
+    List<Wishlist> findWithRestaurantByMemberEmail(@Param("memberEmail") String memberEmail);
+
     // 특정 레스토랑이 찜되어 있는지 확인
     @Query("SELECT w FROM Wishlist w WHERE w.memberEmail = :memberEmail AND w.restaurant.id = :restaurantId")
     Optional<Wishlist> findByMemberEmailAndRestaurantId(@Param("memberEmail") String memberEmail, @Param("restaurantId") Long restaurantId);
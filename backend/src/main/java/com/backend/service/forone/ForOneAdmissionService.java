@@ -0,0 +1,201 @@
+package com.backend.service.forone;
+
+import com.backend.domain.restaurant.ForOneStatus;
+import com.backend.dto.forone.ForOneJoinResultDTO;
+import com.backend.event.ForOneSlotChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 한그릇 슬롯 참여/취소 (로그인한 회원 기준, 한 회원은 슬롯당 한 자리).
+ * 인원 판정은 슬롯별 메모리 카운터(CAS)로 하고, DB(for_one_menu.current_participants, for_one_participant)에는
+ * 주기적으로 모아서 쓴다. 카운터는 처음 요청이 올 때 DB 값으로 만들어지며, 이후로는 메모리 값이 기준이다.
+ * 슬롯이 ACTIVE가 아니게 되면 카운터를 내린다 (기록 전 변경은 dirty가 카운터를 잡고 있어 그대로 기록된다).
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class ForOneAdmissionService {
+
+    private static final String SELECT_SLOT = """
+            SELECT f.id, m.restaurant_id, f.current_participants, f.max_participants,
+                   f.status, f.starts_at, f.ends_at
+            FROM for_one_menu f
+            JOIN menu m ON m.id = f.menu_id
+            WHERE f.id = ?
+            """;
+
+    private static final String SELECT_PARTICIPANTS =
+            "SELECT member_email FROM for_one_participant WHERE for_one_menu_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ConcurrentHashMap<Long, ForOneSlotCounter> counters = new ConcurrentHashMap<>();
+    // 기록할 변경이 있는 슬롯. 카운터를 직접 잡고 있어 counters에서 내려간 뒤에도 기록된다
+    private final ConcurrentHashMap<Long, ForOneSlotCounter> dirty = new ConcurrentHashMap<>();
+
+    /** 이미 참여했거나 정원이 찼으면 accepted=false */
+    public ForOneJoinResultDTO join(Long slotId, String memberEmail) {
+        ForOneSlotCounter counter = openCounter(slotId, memberEmail);
+        ForOneSlotCounter.Admission admission = counter.join(memberEmail);
+        if (admission == ForOneSlotCounter.Admission.ACCEPTED) dirty.put(slotId, counter);
+        return result(counter, admission);
+    }
+
+    /** 본인이 참여한 자리만 취소. 참여하지 않았으면 accepted=false */
+    public ForOneJoinResultDTO leave(Long slotId, String memberEmail) {
+        ForOneSlotCounter counter = openCounter(slotId, memberEmail);
+        ForOneSlotCounter.Admission admission = counter.leave(memberEmail);
+        if (admission == ForOneSlotCounter.Admission.ACCEPTED) dirty.put(slotId, counter);
+        return result(counter, admission);
+    }
+
+    /** 상태 전환 시 메모리 카운터에도 반영. ACTIVE가 아니면 참여/취소를 거부하고 카운터를 내린다 */
+    public void updateStatus(Long slotId, ForOneStatus status) {
+        ForOneSlotCounter counter = counters.get(slotId);
+        if (counter == null) counter = dirty.get(slotId);
+        if (counter == null) return;
+        counter.status(status);
+        if (status != ForOneStatus.ACTIVE) {
+            counters.remove(slotId, counter);
+        }
+    }
+
+    /**
+     * 바뀐 슬롯의 인원과 참여자를 한 트랜잭션으로 기록. 목록에서 먼저 빼고 값을 읽으므로,
+     * 기록 도중 들어온 참여는 다시 목록에 올라가 다음 주기에 쓰인다.
+     * 기록에 실패하면 꺼낸 슬롯과 참여자 변경을 되돌려 다음 주기에 다시 쓴다.
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void flush() {
+        flushPending();
+    }
+
+    /** flush()와 같고, 기록에 실패했으면 false (DB 인원이 메모리보다 뒤처진 상태) */
+    public synchronized boolean flushPending() {
+        if (dirty.isEmpty()) return true;
+
+        List<ForOneSlotCounter> changed = new ArrayList<>();
+        List<Map<String, Boolean>> memberChanges = new ArrayList<>();
+        for (Long slotId : dirty.keySet()) {
+            ForOneSlotCounter counter = dirty.remove(slotId);
+            if (counter != null) {
+                changed.add(counter);
+                memberChanges.add(counter.drainUnsaved());
+            }
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> counts = new ArrayList<>(changed.size());
+        List<Object[]> joins = new ArrayList<>();
+        List<Object[]> leaves = new ArrayList<>();
+        for (int i = 0; i < changed.size(); i++) {
+            ForOneSlotCounter c = changed.get(i);
+            counts.add(new Object[]{c.current(), c.slotId()});
+            memberChanges.get(i).forEach((member, joined) -> {
+                if (joined) joins.add(new Object[]{c.slotId(), member, now});
+                else leaves.add(new Object[]{c.slotId(), member});
+            });
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!joins.isEmpty()) {
+                    jdbcTemplate.batchUpdate("INSERT IGNORE INTO for_one_participant (for_one_menu_id, member_email, joined_at) "
+                            + "VALUES (?, ?, ?)", joins);
+                }
+                if (!leaves.isEmpty()) {
+                    jdbcTemplate.batchUpdate("DELETE FROM for_one_participant WHERE for_one_menu_id = ? AND member_email = ?", leaves);
+                }
+                jdbcTemplate.batchUpdate("UPDATE for_one_menu SET current_participants = ? WHERE id = ?", counts);
+            });
+        } catch (RuntimeException e) {
+            for (int i = 0; i < changed.size(); i++) {
+                changed.get(i).restoreUnsaved(memberChanges.get(i));
+                dirty.putIfAbsent(changed.get(i).slotId(), changed.get(i));
+            }
+            log.warn("한그릇 참여 인원 기록 실패, 다음 주기에 재시도: {}개 슬롯", changed.size(), e);
+            return false;
+        }
+
+        for (ForOneSlotCounter c : changed) {
+            eventPublisher.publishEvent(new ForOneSlotChangedEvent(c.slotId(), c.restaurantId(), c.current(), c.status()));
+        }
+        log.debug("한그릇 참여 인원 기록: {}개 슬롯", changed.size());
+        return true;
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private ForOneSlotCounter openCounter(Long slotId, String memberEmail) {
+        if (slotId == null || memberEmail == null) {
+            throw new IllegalArgumentException("slotId and member are required");
+        }
+        LocalDateTime now = LocalDateTime.now();
+        ForOneSlotCounter counter = counters.get(slotId);
+        if (counter == null) {
+            // DB 조회는 맵 밖에서 하고 먼저 올라간 카운터를 쓴다 (compute 안에서 JDBC를 돌리면 같은 빈의 다른 키까지 막힌다).
+            // 내려갔지만 아직 기록 전인 카운터가 있으면 DB보다 새 값이므로 그대로 다시 올린다
+            ForOneSlotCounter loaded = dirty.get(slotId);
+            if (loaded == null) loaded = loadCounter(slotId);
+            if (!loaded.isOpen(now)) {
+                throw new IllegalArgumentException("진행 중인 한그릇 펀딩이 아닙니다: " + slotId);
+            }
+            ForOneSlotCounter raced = counters.putIfAbsent(slotId, loaded);
+            counter = raced != null ? raced : loaded;
+        }
+        if (!counter.isOpen(now)) {
+            throw new IllegalArgumentException("진행 중인 한그릇 펀딩이 아닙니다: " + slotId);
+        }
+        return counter;
+    }
+
+    private ForOneSlotCounter loadCounter(Long slotId) {
+        List<ForOneSlotCounter> rows = jdbcTemplate.query(SELECT_SLOT, (rs, i) -> {
+            Timestamp startsAt = rs.getTimestamp(6);
+            Timestamp endsAt = rs.getTimestamp(7);
+            return new ForOneSlotCounter(
+                    rs.getLong(1),
+                    rs.getObject(2, Long.class),
+                    rs.getInt(3),
+                    rs.getObject(4, Integer.class),
+                    ForOneStatus.valueOf(rs.getString(5)),
+                    startsAt == null ? null : startsAt.toLocalDateTime(),
+                    endsAt == null ? null : endsAt.toLocalDateTime());
+        }, slotId);
+        if (rows.isEmpty()) {
+            throw new IllegalArgumentException("한그릇 펀딩을 찾을 수 없습니다: " + slotId);
+        }
+        ForOneSlotCounter counter = rows.get(0);
+        counter.loadParticipants(jdbcTemplate.queryForList(SELECT_PARTICIPANTS, String.class, slotId));
+        return counter;
+    }
+
+    private static ForOneJoinResultDTO result(ForOneSlotCounter counter, ForOneSlotCounter.Admission admission) {
+        boolean accepted = admission == ForOneSlotCounter.Admission.ACCEPTED;
+        return ForOneJoinResultDTO.builder()
+                .slotId(counter.slotId())
+                .accepted(accepted)
+                .reason(accepted ? null : admission.name())
+                .currentParticipants(counter.current())
+                .maxParticipants(counter.max())
+                .build();
+    }
+}
@@ -0,0 +1,165 @@
+package com.backend.service.forone;
+
+import com.backend.domain.restaurant.ForOneMenu;
+import com.backend.domain.restaurant.ForOneStatus;
+import com.backend.event.ForOneSlotChangedEvent;
+import com.backend.repository.restaurant.ForOneMenuRepository;
+import com.backend.util.HashedTimingWheel;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 한그릇 슬롯 상태 전환 (PLANNED → ACTIVE → SUCCESS/FAILED).
+ * starts_at/ends_at을 타이밍 휠에 예약해 두고, 1초마다 만료된 전환을 모아 한 트랜잭션으로 반영한다.
+ * 기동 시와 주기적으로 진행 전/중인 슬롯을 다시 읽어 빠진 예약을 채우며, 이미 지난 시각은 다음 tick에 바로 처리된다.
+ */
+@Component
+@Log4j2
+public class ForOneLifecycleScheduler {
+
+    private static final long TICK_MILLIS = 1000;
+    private static final int WHEEL_SIZE = 4096;    // 한 바퀴 약 68분, 그 이후는 바퀴 수로 계산
+    private static final int BATCH_SIZE = 500;
+
+    private static final String SELECT_OPEN_SLOTS = """
+            SELECT id, status, starts_at, ends_at
+            FROM for_one_menu
+            WHERE status IN ('PLANNED', 'ACTIVE')
+            """;
+
+    enum Kind { START, CLOSE }
+
+    record Transition(long slotId, Kind kind, long deadlineMillis) {
+    }
+
+    private final ForOneMenuRepository repository;
+    private final ForOneAdmissionService admissionService;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    private final HashedTimingWheel<Transition> wheel =
+            new HashedTimingWheel<>(TICK_MILLIS, WHEEL_SIZE, System.currentTimeMillis());
+    private final Set<Transition> scheduled = ConcurrentHashMap.newKeySet();
+
+    public ForOneLifecycleScheduler(ForOneMenuRepository repository,
+                                    ForOneAdmissionService admissionService,
+                                    JdbcTemplate jdbcTemplate,
+                                    ApplicationEventPublisher eventPublisher,
+                                    PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.admissionService = admissionService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rescan();
+    }
+
+    /** 진행 전/중인 슬롯의 전환 시각을 예약 (이미 예약된 것은 건너뜀) */
+    @Scheduled(initialDelay = 300_000, fixedDelay = 300_000)
+    public void rescan() {
+        int[] added = {0};
+        jdbcTemplate.query(SELECT_OPEN_SLOTS, rs -> {
+            long id = rs.getLong(1);
+            ForOneStatus status = ForOneStatus.valueOf(rs.getString(2));
+            Timestamp startsAt = rs.getTimestamp(3);
+            Timestamp endsAt = rs.getTimestamp(4);
+            if (status == ForOneStatus.PLANNED && startsAt != null) {
+                if (schedule(new Transition(id, Kind.START, startsAt.getTime()))) added[0]++;
+            }
+            if (endsAt != null) {
+                if (schedule(new Transition(id, Kind.CLOSE, endsAt.getTime()))) added[0]++;
+            }
+        });
+        log.info("한그릇 상태 전환 예약: 신규 {}건, 대기 {}건", added[0], wheel.size());
+    }
+
+    private boolean schedule(Transition transition) {
+        if (!scheduled.add(transition)) return false;
+        wheel.schedule(transition, transition.deadlineMillis());
+        return true;
+    }
+
+    @Scheduled(fixedDelay = TICK_MILLIS)
+    public synchronized void tick() {
+        List<Transition> due = wheel.advanceTo(System.currentTimeMillis());
+        if (due.isEmpty()) return;
+        due.forEach(scheduled::remove);
+
+        // 마감 판정 전에 메모리에만 있는 참여 인원을 DB에 기록.
+        // 기록에 실패하면 뒤처진 인원으로 성공/실패를 정하지 않도록 마감은 다음 tick으로 다시 예약한다
+        if (due.stream().anyMatch(t -> t.kind() == Kind.CLOSE) && !admissionService.flushPending()) {
+            List<Transition> closes = due.stream().filter(t -> t.kind() == Kind.CLOSE).toList();
+            closes.forEach(this::schedule);
+            due = due.stream().filter(t -> t.kind() != Kind.CLOSE).toList();
+            log.warn("참여 인원 기록 실패로 한그릇 마감 {}건 보류", closes.size());
+        }
+        for (int from = 0; from < due.size(); from += BATCH_SIZE) {
+            apply(due.subList(from, Math.min(due.size(), from + BATCH_SIZE)));
+        }
+    }
+
+    private void apply(List<Transition> batch) {
+        Map<Long, List<Kind>> kindsBySlot = new HashMap<>();
+        for (Transition t : batch) {
+            kindsBySlot.computeIfAbsent(t.slotId(), k -> new ArrayList<>()).add(t.kind());
+        }
+
+        Map<Long, ForOneStatus> changed = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            Map<Long, ForOneStatus> result = new HashMap<>();
+            for (ForOneMenu slot : repository.findAllWithMenuByIdIn(new LinkedHashSet<>(kindsBySlot.keySet()))) {
+                ForOneStatus next = nextStatus(slot, kindsBySlot.get(slot.getId()), now);
+                if (next == null) continue;
+                slot.setStatus(next);
+                result.put(slot.getId(), next);
+                // AFTER_COMMIT 리스너(nearby 캐시 등)는 커밋 후 실행된다
+                eventPublisher.publishEvent(new ForOneSlotChangedEvent(
+                        slot.getId(), slot.getMenu().getRestaurant().getId(), slot.getCurrentParticipants(), next));
+            }
+            return result;
+        });
+
+        changed.forEach(admissionService::updateStatus);
+        if (!changed.isEmpty()) {
+            log.info("한그릇 상태 전환 {}건 반영", changed.size());
+        }
+    }
+
+    /**
+     * 예약 후 기간이 바뀌었거나 운영자가 멈춘(PAUSED) 슬롯은 실제 값으로 다시 확인해서 건너뛴다.
+     * 시작과 마감이 같은 tick에 나오면 바로 마감 처리.
+     */
+    private static ForOneStatus nextStatus(ForOneMenu slot, List<Kind> kinds, LocalDateTime now) {
+        ForOneStatus status = slot.getStatus();
+        boolean open = status == ForOneStatus.PLANNED || status == ForOneStatus.ACTIVE;
+        if (open && kinds.contains(Kind.CLOSE) && !slot.getEndsAt().isAfter(now)) {
+            return slot.meetGoal() ? ForOneStatus.SUCCESS : ForOneStatus.FAILED;
+        }
+        if (status == ForOneStatus.PLANNED && kinds.contains(Kind.START) && !slot.getStartsAt().isAfter(now)) {
+            return ForOneStatus.ACTIVE;
+        }
+        return null;
+    }
+}
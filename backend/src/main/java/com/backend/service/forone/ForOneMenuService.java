@@ -2,6 +2,8 @@ package com.backend.service.forone;
 
 import com.backend.dto.forone.ForOneMenuNearbyView;
 import com.backend.repository.restaurant.ForOneMenuRepository;
+import com.backend.service.restaurant.NearbyResponseCache;
+import com.backend.util.GeoUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
@@ -11,9 +13,19 @@ import org.springframework.stereotype.Service;
 public class ForOneMenuService {
 
     private final ForOneMenuRepository repository;
+    private final NearbyResponseCache nearbyResponseCache;
+    private final ForOneSlotIndex slotIndex;
 
     public Page<ForOneMenuNearbyView> getNearbyForOneMenus(double lat, double lng, double radius, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        return repository.findNearbyForOneMenus(lat, lng, radius, pageable);
+        // 진행 중 슬롯 인덱스가 적재되어 있으면 DB 없이 응답
+        if (slotIndex.isReady()) {
+            return slotIndex.findNearby(lat, lng, radius, pageable);
+        }
+
+        NearbyResponseCache.Key key = NearbyResponseCache.key(lat, lng, radius, page, size);
+        return nearbyResponseCache.forOne(key, () -> repository.findNearbyForOneMenus(
+                key.lat(), key.lng(), key.radius(),
+                GeoUtils.boundingBoxWkt(key.lat(), key.lng(), key.radius()), pageable));
     }
 }
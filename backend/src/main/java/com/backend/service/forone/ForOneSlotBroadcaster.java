@@ -0,0 +1,182 @@
+package com.backend.service.forone;
+
+import com.backend.dto.forone.ForOneSlotDeltaDTO;
+import com.backend.event.ForOneSlotChangedEvent;
+import com.backend.service.restaurant.RestaurantGeoIndex;
+import com.backend.util.GeoUtils;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 한그릇 슬롯 변경을 SSE 구독자에게 나눠 보낸다.
+ * 변경 이벤트는 슬롯별 최신 값 하나로 합쳐 두었다가 주기마다 내보내므로, 인기 슬롯도 초당 MAX_UPDATES_PER_SECOND번까지만 전송된다.
+ * SseEmitter는 요청 스레드를 붙잡지 않고, 실제 쓰기는 구독자마다 가상 스레드에서 하므로 느린 연결이 다른 구독자를 막지 않는다.
+ */
+@Component
+@Log4j2
+public class ForOneSlotBroadcaster {
+
+    public static final int MAX_UPDATES_PER_SECOND = 4;
+    public static final int MAX_SLOT_IDS = 200;
+    private static final int MAX_SUBSCRIBERS = 10_000;
+    private static final long EMITTER_TIMEOUT_MILLIS = 30 * 60_000L;
+
+    private final RestaurantGeoIndex restaurantGeoIndex;
+
+    private final Map<Long, ForOneSlotChangedEvent> latest = new ConcurrentHashMap<>();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+    public ForOneSlotBroadcaster(RestaurantGeoIndex restaurantGeoIndex) {
+        this.restaurantGeoIndex = restaurantGeoIndex;
+    }
+
+    /** 구독 조건: 슬롯 ID 목록 또는 지도 영역(중심+반경) */
+    private record Filter(Set<Long> slotIds, double lat, double lng, double radius) {
+
+        boolean matches(ForOneSlotChangedEvent e, RestaurantGeoIndex.Point point) {
+            if (slotIds != null) return slotIds.contains(e.slotId());
+            return point != null && GeoUtils.distanceMeters(lat, lng, point.lat(), point.lng()) <= radius;
+        }
+    }
+
+    private static final class Subscriber {
+        final SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MILLIS);
+        final Filter filter;
+        final Map<Long, ForOneSlotDeltaDTO> unsent = new ConcurrentHashMap<>(); // 이전 전송 중 쌓인 변경 (슬롯별 최신)
+        final AtomicBoolean sending = new AtomicBoolean();
+
+        Subscriber(Filter filter) {
+            this.filter = filter;
+        }
+    }
+
+    public SseEmitter subscribeSlots(Set<Long> slotIds) {
+        if (slotIds == null || slotIds.isEmpty()) {
+            throw new IllegalArgumentException("slotIds is required");
+        }
+        if (slotIds.size() > MAX_SLOT_IDS) {
+            throw new IllegalArgumentException("slotIds must be <= " + MAX_SLOT_IDS);
+        }
+        return subscribe(new Filter(Set.copyOf(slotIds), 0, 0, 0));
+    }
+
+    public SseEmitter subscribeArea(double lat, double lng, double radius) {
+        if (lat < -90 || lat > 90 || lng < -180 || lng > 180) {
+            throw new IllegalArgumentException("lat/lng out of range");
+        }
+        if (radius <= 0 || radius > 20_000) {
+            throw new IllegalArgumentException("radius must be in (0, 20000]");
+        }
+        return subscribe(new Filter(null, lat, lng, radius));
+    }
+
+    private SseEmitter subscribe(Filter filter) {
+        if (subscribers.size() >= MAX_SUBSCRIBERS) {
+            throw new IllegalStateException("too many subscribers");
+        }
+        Subscriber s = new Subscriber(filter);
+        subscribers.add(s);
+        s.emitter.onCompletion(() -> subscribers.remove(s));
+        s.emitter.onTimeout(() -> subscribers.remove(s));
+        s.emitter.onError(e -> subscribers.remove(s));
+        return s.emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSlotChanged(ForOneSlotChangedEvent event) {
+        if (subscribers.isEmpty() || event.slotId() == null) return;
+        latest.put(event.slotId(), event);
+    }
+
+    @Scheduled(fixedRate = 1000 / MAX_UPDATES_PER_SECOND)
+    public void broadcast() {
+        if (subscribers.isEmpty()) return;
+        List<ForOneSlotChangedEvent> changes = new ArrayList<>(latest.size());
+        for (Long slotId : latest.keySet().toArray(new Long[0])) {
+            ForOneSlotChangedEvent e = latest.remove(slotId);
+            if (e != null) changes.add(e);
+        }
+
+        Map<Long, RestaurantGeoIndex.Point> points = new HashMap<>();
+        for (ForOneSlotChangedEvent e : changes) {
+            RestaurantGeoIndex.Point p = restaurantGeoIndex.get(e.restaurantId());
+            if (p != null) points.put(e.slotId(), p);
+        }
+
+        for (Subscriber s : subscribers) {
+            boolean matched = false;
+            for (ForOneSlotChangedEvent e : changes) {
+                if (s.filter.matches(e, points.get(e.slotId()))) {
+                    s.unsent.put(e.slotId(), new ForOneSlotDeltaDTO(e.slotId(), e.currentParticipants(), e.status()));
+                    matched = true;
+                }
+            }
+            if (matched || !s.unsent.isEmpty()) drain(s);
+        }
+    }
+
+    /** 끊긴 연결 정리용 (프록시 유휴 타임아웃 방지 겸). 전송 중인 구독자는 건너뜀 */
+    @Scheduled(fixedRate = 15_000)
+    public void heartbeat() {
+        for (Subscriber s : subscribers) {
+            if (!s.sending.compareAndSet(false, true)) continue;
+            senders.execute(() -> write(s, SseEmitter.event().comment("ping")));
+        }
+    }
+
+    // 구독자당 전송은 한 번에 하나. 전송 중에 들어온 변경은 unsent에 합쳐져 다음 주기에 나간다
+    private void drain(Subscriber s) {
+        if (!s.sending.compareAndSet(false, true)) return;
+        senders.execute(() -> {
+            List<ForOneSlotDeltaDTO> deltas = new ArrayList<>(s.unsent.size());
+            for (Long slotId : s.unsent.keySet().toArray(new Long[0])) {
+                ForOneSlotDeltaDTO d = s.unsent.remove(slotId);
+                if (d != null) deltas.add(d);
+            }
+            if (deltas.isEmpty()) {
+                s.sending.set(false);
+                return;
+            }
+            write(s, SseEmitter.event().name("slots").data(deltas));
+        });
+    }
+
+    private void write(Subscriber s, SseEmitter.SseEventBuilder event) {
+        try {
+            s.emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            subscribers.remove(s);
+            s.emitter.completeWithError(e);
+        } finally {
+            s.sending.set(false);
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(s -> s.emitter.complete());
+        subscribers.clear();
+        senders.shutdown();
+    }
+}
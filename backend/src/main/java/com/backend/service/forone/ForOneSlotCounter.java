@@ -0,0 +1,140 @@
+package com.backend.service.forone;
+
+import com.backend.domain.restaurant.ForOneStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 한그릇 슬롯 하나의 참여 인원 카운터.
+ * 락 없이 CAS로만 증감하며, 상한(maxParticipants)을 넘는 증가는 절대 일어나지 않는다.
+ * 참여자(회원)별 참여/취소는 participants 맵의 키 단위 compute로 처리해 같은 회원의 요청끼리만 순서를 맞춘다.
+ */
+final class ForOneSlotCounter {
+
+    private final long slotId;
+    private final Long restaurantId;
+    private final int max;   // 상한 없으면 Integer.MAX_VALUE
+    private final LocalDateTime startsAt;
+    private final LocalDateTime endsAt;
+    private final AtomicInteger current;
+    private volatile ForOneStatus status;
+
+    private final ConcurrentHashMap<String, Boolean> participants = new ConcurrentHashMap<>();
+    // DB에 아직 안 쓴 참여(true)/취소(false). 같은 회원은 마지막 값만 남는다
+    private final ConcurrentHashMap<String, Boolean> unsaved = new ConcurrentHashMap<>();
+
+    enum Admission {
+        ACCEPTED, FULL, ALREADY_JOINED, NOT_JOINED
+    }
+
+    ForOneSlotCounter(long slotId, Long restaurantId, int current, Integer max,
+                      ForOneStatus status, LocalDateTime startsAt, LocalDateTime endsAt) {
+        this.slotId = slotId;
+        this.restaurantId = restaurantId;
+        this.current = new AtomicInteger(current);
+        this.max = max == null ? Integer.MAX_VALUE : max;
+        this.status = status;
+        this.startsAt = startsAt;
+        this.endsAt = endsAt;
+    }
+
+    /** DB에 기록된 참여자 (카운터 생성 시) */
+    void loadParticipants(Collection<String> memberEmails) {
+        memberEmails.forEach(m -> participants.put(m, Boolean.TRUE));
+    }
+
+    /** 아직 참여하지 않은 회원이고 정원이 남았을 때만 참여 */
+    Admission join(String memberEmail) {
+        Admission[] result = {Admission.ALREADY_JOINED};
+        participants.computeIfAbsent(memberEmail, m -> {
+            if (!tryJoin()) {
+                result[0] = Admission.FULL;
+                return null;
+            }
+            unsaved.put(m, Boolean.TRUE);
+            result[0] = Admission.ACCEPTED;
+            return Boolean.TRUE;
+        });
+        return result[0];
+    }
+
+    /** 참여한 회원만 취소 */
+    Admission leave(String memberEmail) {
+        Admission[] result = {Admission.NOT_JOINED};
+        participants.computeIfPresent(memberEmail, (m, v) -> {
+            tryLeave();
+            unsaved.put(m, Boolean.FALSE);
+            result[0] = Admission.ACCEPTED;
+            return null;
+        });
+        return result[0];
+    }
+
+    /** 기록할 참여/취소를 꺼낸다. 꺼내는 사이 같은 회원의 새 변경이 들어오면 그 값은 남겨 둔다 */
+    Map<String, Boolean> drainUnsaved() {
+        Map<String, Boolean> drained = new HashMap<>();
+        unsaved.forEach((m, joined) -> {
+            if (unsaved.remove(m, joined)) drained.put(m, joined);
+        });
+        return drained;
+    }
+
+    /** 기록 실패 시 되돌림 (그 사이 더 새 변경이 있으면 새 값 유지) */
+    void restoreUnsaved(Map<String, Boolean> drained) {
+        drained.forEach(unsaved::putIfAbsent);
+    }
+
+    /** 상한 미만일 때만 1 증가. 성공 여부 반환 */
+    boolean tryJoin() {
+        while (true) {
+            int c = current.get();
+            if (c >= max) return false;
+            if (current.compareAndSet(c, c + 1)) return true;
+        }
+    }
+
+    /** 0보다 클 때만 1 감소. 성공 여부 반환 */
+    boolean tryLeave() {
+        while (true) {
+            int c = current.get();
+            if (c <= 0) return false;
+            if (current.compareAndSet(c, c - 1)) return true;
+        }
+    }
+
+    /** 진행 중(ACTIVE)이고 기간 안인지 */
+    boolean isOpen(LocalDateTime now) {
+        return status == ForOneStatus.ACTIVE
+                && (startsAt == null || !now.isBefore(startsAt))
+                && (endsAt == null || !now.isAfter(endsAt));
+    }
+
+    long slotId() {
+        return slotId;
+    }
+
+    Long restaurantId() {
+        return restaurantId;
+    }
+
+    int current() {
+        return current.get();
+    }
+
+    Integer max() {
+        return max == Integer.MAX_VALUE ? null : max;
+    }
+
+    ForOneStatus status() {
+        return status;
+    }
+
+    void status(ForOneStatus status) {
+        this.status = status;
+    }
+}
@@ -0,0 +1,311 @@
+package com.backend.service.forone;
+
+import com.backend.domain.restaurant.ForOneStatus;
+import com.backend.dto.forone.ForOneMenuNearbyView;
+import com.backend.event.ForOneSlotChangedEvent;
+import com.backend.event.RestaurantChangedEvent;
+import com.backend.util.GeoGrid;
+import com.backend.util.GeoUtils;
+import com.backend.util.HaversineKernel;
+import com.backend.util.HaversineKernels;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 진행 중(ACTIVE) 한그릇 슬롯 메모리 인덱스.
+ * 음식점 좌표 격자에 슬롯을 두고 메뉴/가격/음식점 정보를 함께 들고 있어, nearby 조회를 DB 없이 처리한다.
+ * 기동 시와 주기적으로 전체를 다시 읽고, 그 사이에는 슬롯 변경(참여 인원, 상태 전환)과 음식점 변경 이벤트로 갱신한다.
+ * 전체 재적재는 새 격자를 따로 만들어 한 번에 바꿔 끼우므로 조회 중에 비거나 일부만 찬 격자가 보이지 않는다.
+ * 재적재 중에 들어온 변경은 기록해 두었다가, 바꿔 끼우기 전에 해당 슬롯/음식점을 DB에서 다시 읽어 새 격자에 반영한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class ForOneSlotIndex {
+
+    private static final double CELL_DEGREES = 0.01; // 약 1.1km 격자
+    private static final HaversineKernel DISTANCE_KERNEL = HaversineKernels.best();
+
+    private static final String SELECT_ACTIVE = """
+            SELECT f.id, m.id, m.name, f.original_price, f.funding_price, f.discount_percent,
+                   f.current_participants, f.min_participants, f.max_participants, f.ends_at,
+                   r.id, r.name, r.road_address_name, r.y, r.x, m.image_url
+            FROM for_one_menu f
+            JOIN menu m ON f.menu_id = m.id
+            JOIN restaurant r ON m.restaurant_id = r.id
+            WHERE f.status = 'ACTIVE'
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile GeoGrid<Slot> grid = new GeoGrid<>(CELL_DEGREES);
+    private volatile boolean ready = false;
+
+    // 재적재 중에 변경된 슬롯/음식점 ID (재적재 중이 아니면 null). rebuildLock으로 보호
+    private final Object rebuildLock = new Object();
+    private Set<Long> changedSlots;
+    private Set<Long> changedRestaurants;
+
+    /** 슬롯 한 건 (조회 결과에 그대로 쓰는 비정규화 값) */
+    record Slot(long slotId, Long menuId, String menuName, Integer originalPrice, Integer fundingPrice,
+                Integer discountPercent, int currentParticipants, Integer minParticipants, Integer maxParticipants,
+                LocalDateTime endsAt, long restaurantId, String restaurantName, String roadAddressName,
+                double lat, double lng, String imageUrl) {
+
+        Slot withParticipants(int current) {
+            return new Slot(slotId, menuId, menuName, originalPrice, fundingPrice, discountPercent, current,
+                    minParticipants, maxParticipants, endsAt, restaurantId, restaurantName, roadAddressName,
+                    lat, lng, imageUrl);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+    }
+
+    /** 이벤트를 거치지 않는 변경(직접 수정, 운영 중지 등) 반영용 전체 재적재 */
+    @Scheduled(initialDelay = 300_000, fixedDelay = 300_000)
+    public synchronized void rebuild() {
+        synchronized (rebuildLock) {
+            changedSlots = new HashSet<>();
+            changedRestaurants = new HashSet<>();
+        }
+        try {
+            GeoGrid<Slot> fresh = new GeoGrid<>(CELL_DEGREES);
+            jdbcTemplate.query(SELECT_ACTIVE, rs -> {
+                put(fresh, slot(rs));
+            });
+            // 읽는 동안 바뀐 슬롯을 다시 읽어 반영. 더 바뀐 것이 없을 때 잠금 안에서 바꿔 끼운다
+            while (true) {
+                Set<Long> slots, restaurants;
+                synchronized (rebuildLock) {
+                    if (changedSlots.isEmpty() && changedRestaurants.isEmpty()) {
+                        grid = fresh;
+                        break;
+                    }
+                    slots = changedSlots;
+                    restaurants = changedRestaurants;
+                    changedSlots = new HashSet<>();
+                    changedRestaurants = new HashSet<>();
+                }
+                slots.forEach(id -> reloadSlot(fresh, id));
+                restaurants.forEach(id -> reloadRestaurant(fresh, id));
+            }
+            ready = true;
+            log.info("Loaded for-one slot index: {} active slots", fresh.size());
+        } finally {
+            synchronized (rebuildLock) {
+                changedSlots = null;
+                changedRestaurants = null;
+            }
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSlotChanged(ForOneSlotChangedEvent event) {
+        if (event.slotId() == null) return;
+        GeoGrid<Slot> target = target(event.slotId(), null);
+        if (event.status() != ForOneStatus.ACTIVE) {
+            target.remove(event.slotId());
+            return;
+        }
+        Slot slot = target.get(event.slotId());
+        if (slot == null) {
+            reloadSlot(target, event.slotId()); // 방금 시작된 슬롯
+        } else {
+            target.put(slot.slotId(), slot.lat(), slot.lng(), slot.withParticipants(event.currentParticipants()));
+        }
+    }
+
+    /** 음식점 이름/주소/좌표 변경 시 그 음식점의 슬롯만 다시 읽음 */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRestaurantChanged(RestaurantChangedEvent event) {
+        if (event.restaurantId() == null) return;
+        reloadRestaurant(target(null, event.restaurantId()), event.restaurantId());
+    }
+
+    /** 변경을 반영할 현재 격자. 재적재 중이면 변경 ID를 기록해 새 격자에도 다시 반영되게 한다 */
+    private GeoGrid<Slot> target(Long slotId, Long restaurantId) {
+        synchronized (rebuildLock) {
+            if (changedSlots != null) {
+                if (slotId != null) changedSlots.add(slotId);
+                if (restaurantId != null) changedRestaurants.add(restaurantId);
+            }
+            return grid;
+        }
+    }
+
+    private void reloadSlot(GeoGrid<Slot> target, long slotId) {
+        target.remove(slotId);
+        jdbcTemplate.query(SELECT_ACTIVE + " AND f.id = ?", rs -> {
+            put(target, slot(rs));
+        }, slotId);
+    }
+
+    private void reloadRestaurant(GeoGrid<Slot> target, long restaurantId) {
+        List<Long> stale = new ArrayList<>();
+        target.forEach(s -> {
+            if (s.restaurantId() == restaurantId) stale.add(s.slotId());
+        });
+        stale.forEach(target::remove);
+        jdbcTemplate.query(SELECT_ACTIVE + " AND r.id = ?", rs -> {
+            put(target, slot(rs));
+        }, restaurantId);
+    }
+
+    /** 반경(m) 안의 진행 중 슬롯을 거리, 슬롯 ID 순으로 페이징 (마감 시각이 지난 슬롯은 상태 전환 전이라도 제외) */
+    public Page<ForOneMenuNearbyView> findNearby(double lat, double lng, double radius, Pageable pageable) {
+        double dLat = GeoUtils.latDegrees(radius);
+        double dLng = GeoUtils.lngDegrees(radius, lat);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Slot> box = new ArrayList<>();
+        grid.forEachInBox(lat - dLat, lat + dLat, lng - dLng, lng + dLng, s -> {
+            if (s.endsAt() == null || !s.endsAt().isBefore(now)) box.add(s);
+        });
+        int n = box.size();
+        double[] lats = new double[n], lngs = new double[n], distances = new double[n];
+        for (int i = 0; i < n; i++) {
+            lats[i] = box.get(i).lat();
+            lngs[i] = box.get(i).lng();
+        }
+        DISTANCE_KERNEL.distances(lat, lng, lats, lngs, n, distances);
+
+        List<View> within = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            if (distances[i] <= radius) within.add(new View(box.get(i), distances[i]));
+        }
+        within.sort(Comparator.comparingDouble(View::getDistance).thenComparingLong(View::getSlotId));
+
+        int from = (int) Math.min(pageable.getOffset(), within.size());
+        int to = Math.min(from + pageable.getPageSize(), within.size());
+        return new PageImpl<>(new ArrayList<>(within.subList(from, to)), pageable, within.size());
+    }
+
+    private static void put(GeoGrid<Slot> target, Slot slot) {
+        target.put(slot.slotId(), slot.lat(), slot.lng(), slot);
+    }
+
+    private static Slot slot(ResultSet rs) throws SQLException {
+        Timestamp endsAt = rs.getTimestamp(10);
+        return new Slot(
+                rs.getLong(1), rs.getObject(2, Long.class), rs.getString(3),
+                rs.getObject(4, Integer.class), rs.getObject(5, Integer.class), rs.getObject(6, Integer.class),
+                rs.getInt(7), rs.getObject(8, Integer.class), rs.getObject(9, Integer.class),
+                endsAt == null ? null : endsAt.toLocalDateTime(),
+                rs.getLong(11), rs.getString(12), rs.getString(13),
+                rs.getDouble(14), rs.getDouble(15), rs.getString(16));
+    }
+
+    /** 조회 결과 한 건 (슬롯 + 요청 좌표로부터의 거리) */
+    private static final class View implements ForOneMenuNearbyView {
+
+        private final Slot slot;
+        private final double distance;
+
+        private View(Slot slot, double distance) {
+            this.slot = slot;
+            this.distance = distance;
+        }
+
+        @Override
+        public Long getSlotId() {
+            return slot.slotId();
+        }
+
+        @Override
+        public Long getMenuId() {
+            return slot.menuId();
+        }
+
+        @Override
+        public String getMenuName() {
+            return slot.menuName();
+        }
+
+        @Override
+        public Integer getOriginalPrice() {
+            return slot.originalPrice();
+        }
+
+        @Override
+        public Integer getFundingPrice() {
+            return slot.fundingPrice();
+        }
+
+        @Override
+        public Integer getDiscountPercent() {
+            return slot.discountPercent();
+        }
+
+        @Override
+        public Integer getCurrentParticipants() {
+            return slot.currentParticipants();
+        }
+
+        @Override
+        public Integer getMinParticipants() {
+            return slot.minParticipants();
+        }
+
+        @Override
+        public Integer getMaxParticipants() {
+            return slot.maxParticipants();
+        }
+
+        @Override
+        public LocalDateTime getEndsAt() {
+            return slot.endsAt();
+        }
+
+        @Override
+        public Long getRestaurantId() {
+            return slot.restaurantId();
+        }
+
+        @Override
+        public String getRestaurantName() {
+            return slot.restaurantName();
+        }
+
+        @Override
+        public String getRoadAddressName() {
+            return slot.roadAddressName();
+        }
+
+        @Override
+        public Double getDistance() {
+            return distance;
+        }
+
+        @Override
+        public String getImageUrl() {
+            return slot.imageUrl();
+        }
+    }
+}
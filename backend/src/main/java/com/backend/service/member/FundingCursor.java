@@ -0,0 +1,29 @@
+package com.backend.service.member;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 펀딩 내역 커서 토큰: 마지막으로 내려간 (생성 시각, 펀딩 ID) 쌍. 최신순이므로 다음 페이지는 이보다 앞선 행.
+ * 클라이언트에는 불투명한 base64url 문자열로만 노출한다.
+ */
+public record FundingCursor(LocalDateTime createdAt, long id) {
+
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** 첫 페이지면 null */
+    public static FundingCursor decode(String token) {
+        if (token == null || token.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf('|');
+            return new FundingCursor(LocalDateTime.parse(raw.substring(0, sep)), Long.parseLong(raw.substring(sep + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("invalid cursor: " + token);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.backend.service.member;
+
+import com.backend.dto.member.FundingProgressDTO;
+import com.backend.event.FundingChangedEvent;
+import com.backend.event.FundingProgressFlushedEvent;
+import com.backend.event.RestaurantChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 음식점별 펀딩 진행 금액 메모리 카운터.
+ * 펀딩이 몰려도 restaurant 행 잠금을 다투지 않도록 증감분은 LongAdder(스레드별로 나뉜 셀)에 쌓고,
+ * FLUSH_INTERVAL_MILLIS마다 바뀐 음식점만 모아 한 번의 배치 UPDATE로 total_funding_amount에 더한다.
+ * 진행률 조회는 메모리 값(DB 값 + 아직 안 쓰인 증감분)으로 바로 응답한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class FundingProgressService {
+
+    public static final long FLUSH_INTERVAL_MILLIS = 2000;
+
+    private static final String SELECT_PROGRESS =
+            "SELECT id, funding_amount, total_funding_amount, funding_goal_amount FROM restaurant";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ConcurrentHashMap<Long, Progress> progress = new ConcurrentHashMap<>();
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+
+    private static final class Progress {
+        final LongAdder pending = new LongAdder();   // 아직 DB에 안 쓰인 증감분
+        volatile long baseAmount;                   // funding_amount
+        volatile long flushedTotal;                 // DB의 total_funding_amount
+        volatile long goalAmount;
+
+        long amount() {
+            return baseAmount + flushedTotal + pending.sum();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        jdbcTemplate.query(SELECT_PROGRESS, rs -> {
+            Progress p = progress.computeIfAbsent(rs.getLong(1), id -> new Progress());
+            p.baseAmount = rs.getLong(2);
+            p.flushedTotal = rs.getLong(3);
+            p.goalAmount = rs.getLong(4);
+        });
+        log.info("펀딩 진행 카운터 적재: {}개 음식점", progress.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFundingChanged(FundingChangedEvent event) {
+        add(event.restaurantId(), event.delta());
+    }
+
+    /** 음식점 정보(목표 금액 등) 변경 시 기준값만 다시 읽음. 쌓인 증감분은 유지 */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRestaurantChanged(RestaurantChangedEvent event) {
+        if (event.restaurantId() == null) return;
+        refresh(event.restaurantId());
+    }
+
+    public void add(Long restaurantId, long delta) {
+        if (restaurantId == null || delta == 0) return;
+        Progress p = progress.computeIfAbsent(restaurantId, this::loadOne);
+        if (p == null) {
+            log.warn("펀딩 진행 금액 반영 대상 음식점 없음: restaurantId={}, delta={}", restaurantId, delta);
+            return;
+        }
+        p.pending.add(delta);
+        dirty.add(restaurantId);
+    }
+
+    /** 아직 DB에 안 쓰인 증감분 */
+    public long pending(Long restaurantId) {
+        Progress p = progress.get(restaurantId);
+        return p == null ? 0 : p.pending.sum();
+    }
+
+    /** 최대 FLUSH_INTERVAL_MILLIS만큼 DB보다 앞선 값 */
+    public FundingProgressDTO get(Long restaurantId) {
+        Progress p = restaurantId == null ? null : progress.computeIfAbsent(restaurantId, this::loadOne);
+        if (p == null) {
+            throw new RuntimeException("레스토랑을 찾을 수 없습니다: " + restaurantId);
+        }
+        long amount = p.amount();
+        long goal = p.goalAmount;
+        Integer percent = goal <= 0 ? null
+                : (int) Math.max(0, Math.min(100, Math.round(amount * 100.0 / goal)));
+        return FundingProgressDTO.builder()
+                .restaurantId(restaurantId)
+                .fundingAmount(amount)
+                .fundingGoalAmount(goal)
+                .fundingPercent(percent)
+                .build();
+    }
+
+    /**
+     * 쌓인 증감분을 배치 UPDATE로 기록. 읽은 만큼만 빼므로 기록 도중 들어온 증감은 다음 주기로 넘어간다.
+     * 실패하면 뺀 값을 되돌려 다음 주기에 다시 시도한다.
+     */
+    @Scheduled(fixedDelay = FLUSH_INTERVAL_MILLIS)
+    public synchronized void flush() {
+        if (dirty.isEmpty()) return;
+
+        List<Long> ids = new ArrayList<>();
+        List<Object[]> params = new ArrayList<>();
+        List<long[]> taken = new ArrayList<>();
+        for (Long id : dirty.toArray(new Long[0])) {
+            dirty.remove(id);
+            Progress p = progress.get(id);
+            if (p == null) continue;
+            long delta = p.pending.sum();
+            if (delta == 0) continue;
+            p.pending.add(-delta);
+            ids.add(id);
+            params.add(new Object[]{delta, id});
+            taken.add(new long[]{id, delta});
+        }
+        if (params.isEmpty()) return;
+
+        try {
+            jdbcTemplate.batchUpdate(
+                    "UPDATE restaurant SET total_funding_amount = total_funding_amount + ? WHERE id = ?", params);
+        } catch (RuntimeException e) {
+            for (long[] t : taken) {
+                add(t[0], t[1]);
+            }
+            log.error("펀딩 진행 금액 기록 실패, 다음 주기에 재시도: {}건", taken.size(), e);
+            return;
+        }
+        for (long[] t : taken) {
+            Progress p = progress.get(t[0]);
+            p.flushedTotal += t[1];
+        }
+        eventPublisher.publishEvent(new FundingProgressFlushedEvent(new HashSet<>(ids)));
+        log.debug("펀딩 진행 금액 기록: {}개 음식점", ids.size());
+    }
+
+    /**
+     * flush()와 같은 모니터를 잡은 채로 task를 실행한다. 쌓인 증감분을 먼저 기록하고 그동안 기록이 끼어들지 않으므로,
+     * task 안에서 읽은 DB의 total_funding_amount와 pending()은 같은 시점 기준이다.
+     */
+    public synchronized <T> T withFlushLock(Supplier<T> task) {
+        flush();
+        return task.get();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void refresh(Long restaurantId) {
+        jdbcTemplate.query(SELECT_PROGRESS + " WHERE id = ?", rs -> {
+            Progress p = progress.computeIfAbsent(restaurantId, id -> new Progress());
+            p.baseAmount = rs.getLong(2);
+            p.goalAmount = rs.getLong(4);
+        }, restaurantId);
+    }
+
+    // 적재 이후 생긴 음식점 (승인 직후 등). 없으면 null
+    private Progress loadOne(Long restaurantId) {
+        List<Progress> rows = jdbcTemplate.query(SELECT_PROGRESS + " WHERE id = ?", (rs, i) -> {
+            Progress p = new Progress();
+            p.baseAmount = rs.getLong(2);
+            p.flushedTotal = rs.getLong(3);
+            p.goalAmount = rs.getLong(4);
+            return p;
+        }, restaurantId);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+}
@@ -0,0 +1,87 @@
+package com.backend.service.member;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * restaurant.total_funding_amount(누적 카운터)와 funding 원장(COMPLETED 합계)을 대조한다.
+ * 차이가 있으면 그 차이만큼 FundingProgressService에 더해서 맞추므로, 대조 도중 들어온 증감은 그대로 보존된다.
+ * 차이는 flush와 같은 모니터 안에서 DB 누적값과 메모리 증감분을 함께 읽어 구한다 (도중 기록으로 두 번 세지 않음).
+ * 커밋은 됐지만 아직 AFTER_COMMIT 리스너가 카운터에 더하지 않은 펀딩도 차이로 보이므로,
+ * 잠시 뒤 다시 재서 두 번 모두 같은 차이인 음식점만 보정한다. 바뀐 음식점은 다음 대조로 미룬다.
+ * 기동 시 한 번 실행되어 기존 데이터의 초기값(백필) 역할도 한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class FundingReconciliationJob {
+
+    // 커밋 후 리스너가 카운터에 더하기까지의 틈보다 충분히 길게
+    private static final long SETTLE_MILLIS = FundingProgressService.FLUSH_INTERVAL_MILLIS;
+
+    private static final String SELECT_DRIFTS = """
+            SELECT r.id, r.total_funding_amount, COALESCE(SUM(f.total_amount), 0) AS ledger
+            FROM restaurant r
+            LEFT JOIN funding f ON f.restaurant_id = r.id AND f.status = 'COMPLETED'
+            GROUP BY r.id, r.total_funding_amount
+            HAVING r.total_funding_amount <> ledger
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final FundingProgressService fundingProgressService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(2) // 메모리 인덱스/스냅샷 적재보다 먼저
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    @Scheduled(cron = "0 0 4 * * *")
+    public void reconcile() {
+        Map<Long, Long> first = fundingProgressService.withFlushLock(this::drifts);
+        if (first.isEmpty()) {
+            log.info("펀딩 누적 금액 대조 완료: 불일치 없음");
+            return;
+        }
+        try {
+            Thread.sleep(SETTLE_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        Map<Long, Long> second = fundingProgressService.withFlushLock(this::drifts);
+
+        int corrected = 0;
+        for (Map.Entry<Long, Long> d : second.entrySet()) {
+            if (!d.getValue().equals(first.get(d.getKey()))) {
+                log.info("펀딩 누적 금액 차이가 대조 중 바뀜, 다음 대조로 미룸: restaurantId={}", d.getKey());
+                continue;
+            }
+            log.warn("펀딩 누적 금액 불일치 보정: restaurantId={}, delta={}", d.getKey(), d.getValue());
+            fundingProgressService.add(d.getKey(), d.getValue());
+            corrected++;
+        }
+        fundingProgressService.flush();
+        log.info("펀딩 누적 금액 대조 완료: {}건 보정", corrected);
+    }
+
+    // withFlushLock 안에서 호출 (DB 누적값과 pending이 같은 시점)
+    private Map<Long, Long> drifts() {
+        Map<Long, Long> drifts = new HashMap<>();
+        jdbcTemplate.query(SELECT_DRIFTS, rs -> {
+            long id = rs.getLong(1);
+            long delta = rs.getLong(3) - rs.getLong(2) - fundingProgressService.pending(id);
+            if (delta != 0) drifts.put(id, delta);
+        });
+        return drifts;
+    }
+}
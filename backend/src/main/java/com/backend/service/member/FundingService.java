@@ -1,10 +1,13 @@
 package com.backend.service.member;
 
+import com.backend.dto.common.CursorSliceDTO;
 import com.backend.dto.member.FundingDTO;
+import com.backend.dto.member.FundingHistoryView;
 import com.backend.dto.member.FundingCreateRequest;
 import com.backend.domain.member.Funding;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface FundingService {
     
@@ -16,5 +19,19 @@ public interface FundingService {
     
     List<FundingDTO> getRestaurantFundings(Long restaurantId);
     
+    // 최신순 커서 페이지 (cursor가 null이면 첫 페이지)
+    CursorSliceDTO<FundingHistoryView> getMemberFundingSlice(String memberId, String cursor, int size);
+    
+    CursorSliceDTO<FundingHistoryView> getRestaurantFundingSlice(Long restaurantId, String cursor, int size);
+    
+    // 내보내기용: 전체 내역을 커서 페이지 단위로 읽으며 한 건씩 전달 (메모리에 전부 올리지 않음)
+    void forEachMemberFunding(String memberId, Consumer<FundingHistoryView> action);
+    
     FundingDTO getFundingById(Long fundingId);
+    
+    /**
+     * 펀딩 상태 변경. 관리자가 아니면 본인 펀딩의 취소만 허용한다
+     * @throws org.springframework.security.access.AccessDeniedException 권한이 없을 때
+     */
+    FundingDTO updateFundingStatus(Long fundingId, Funding.FundingStatus newStatus, String requesterEmail, boolean admin);
 } 
\ No newline at end of file
@@ -1,17 +1,35 @@
 package com.backend.service.member;
 
 import com.backend.domain.member.Funding;
+import com.backend.dto.common.CursorSliceDTO;
 import com.backend.dto.member.FundingDTO;
+import com.backend.dto.member.FundingHistoryView;
 import com.backend.dto.member.FundingCreateRequest;
+import com.backend.event.FundingChangedEvent;
+import com.backend.event.FundingCreatedEvent;
+import com.backend.event.FundingStatusChangedEvent;
 import com.backend.repository.member.FundingRepository;
 import com.backend.repository.member.MemberRepository;
 import com.backend.repository.restaurant.RestaurantRepository;
+import com.backend.service.outbox.OutboxPublisher;
+import com.backend.util.IdempotencyGuard;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -19,9 +37,30 @@ import java.util.stream.Collectors;
 @Log4j2
 public class FundingServiceImpl implements FundingService {
     
+    private static final String MERCHANT_KEY = "m:";
+    private static final String IMP_KEY = "i:";
+    private static final int MAX_SLICE_SIZE = 100;
+    private static final int EXPORT_CHUNK_SIZE = 500;
+    
     private final FundingRepository fundingRepository;
     private final MemberRepository memberRepository;
     private final RestaurantRepository restaurantRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxPublisher outboxPublisher;
+    
+    // 결제 키(merchantUid, 없으면 impUid)별 멱등 처리: 재시도/중복 클릭은 처음 저장된 펀딩을 그대로 반환
+    private final IdempotencyGuard<Funding> paymentGuard = new IdempotencyGuard<>(1_000_000, 10_000, 600_000);
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadPaymentKeys() {
+        // merchantUid 없이 impUid만으로 들어오는 결제도 키가 있으므로 둘 다 적재
+        List<String> merchantUids = fundingRepository.findAllMerchantUids();
+        merchantUids.forEach(uid -> paymentGuard.remember(MERCHANT_KEY + uid));
+        List<String> impUids = fundingRepository.findAllImpUids();
+        impUids.forEach(uid -> paymentGuard.remember(IMP_KEY + uid));
+        log.info("펀딩 결제 키 적재: merchantUid {}건, impUid {}건", merchantUids.size(), impUids.size());
+    }
     
     @Override
     @Transactional
@@ -30,9 +69,27 @@ public class FundingServiceImpl implements FundingService {
         return fundingRepository.save(funding);
     }
     
+    /**
+     * 같은 결제(merchantUid/impUid)로 다시 호출되면 새로 저장하지 않고 처음 결과를 반환한다.
+     * 트랜잭션은 멱등 처리 안쪽에서 열어, 커밋된 결과만 재사용되도록 한다.
+     */
     @Override
-    @Transactional
     public Funding createFunding(FundingCreateRequest request) {
+        String key = paymentKey(request.getMerchantUid(), request.getImpUid());
+        return paymentGuard.execute(key, this::findByPaymentKey, () -> {
+            try {
+                return transactionTemplate.execute(status -> insertFunding(request));
+            } catch (DataIntegrityViolationException e) {
+                // 다른 서버에서 같은 결제가 먼저 저장됨 (유니크 인덱스)
+                Funding existing = key == null ? null : findByPaymentKey(key);
+                if (existing == null) throw e;
+                log.info("중복 결제 요청, 기존 펀딩 반환: {}", key);
+                return existing;
+            }
+        });
+    }
+    
+    private Funding insertFunding(FundingCreateRequest request) {
         log.info("펀딩 생성: {}", request);
         
         // Member와 Restaurant 엔티티 조회
@@ -57,7 +114,29 @@ public class FundingServiceImpl implements FundingService {
                 .status(Funding.FundingStatus.COMPLETED)
                 .build();
         
-        return fundingRepository.save(funding);
+        Funding saved = fundingRepository.save(funding);
+        
+        // 레스토랑 누적 펀딩 금액은 커밋 후 FundingProgressService가 메모리에 더하고 주기적으로 기록
+        eventPublisher.publishEvent(new FundingChangedEvent(saved.getId(), restaurant.getId(), saved.getTotalAmount()));
+        // 통계/알림 등 부가 처리는 같은 트랜잭션의 아웃박스로 넘기고 커밋 후 처리
+        outboxPublisher.append(FundingCreatedEvent.AGGREGATE, saved.getId(), FundingCreatedEvent.TYPE,
+                new FundingCreatedEvent(saved.getId(), restaurant.getId(), member.getEmail(), saved.getTotalAmount(),
+                        saved.getStatus().name(), saved.getCreatedAt() != null ? saved.getCreatedAt() : LocalDateTime.now()));
+        return saved;
+    }
+    
+    private static String paymentKey(String merchantUid, String impUid) {
+        if (merchantUid != null && !merchantUid.isBlank()) return MERCHANT_KEY + merchantUid;
+        if (impUid != null && !impUid.isBlank()) return IMP_KEY + impUid;
+        return null;
+    }
+    
+    private Funding findByPaymentKey(String key) {
+        String value = key.substring(2);
+        return (key.startsWith(MERCHANT_KEY)
+                ? fundingRepository.findFirstByMerchantUidOrderByIdAsc(value)
+                : fundingRepository.findFirstByImpUidOrderByIdAsc(value))
+                .orElse(null);
     }
     
     @Override
@@ -80,6 +159,60 @@ public class FundingServiceImpl implements FundingService {
                 .collect(Collectors.toList());
     }
     
+    @Override
+    public CursorSliceDTO<FundingHistoryView> getMemberFundingSlice(String memberId, String cursor, int size) {
+        checkSliceSize(size);
+        return memberSlice(memberId, FundingCursor.decode(cursor), size);
+    }
+    
+    @Override
+    public CursorSliceDTO<FundingHistoryView> getRestaurantFundingSlice(Long restaurantId, String cursor, int size) {
+        checkSliceSize(size);
+        return fetchSlice(FundingCursor.decode(cursor), size,
+                limit -> fundingRepository.findRestaurantHistory(restaurantId, limit),
+                (after, limit) -> fundingRepository.findRestaurantHistoryAfter(restaurantId, after.createdAt(), after.id(), limit));
+    }
+    
+    @Override
+    public void forEachMemberFunding(String memberId, Consumer<FundingHistoryView> action) {
+        FundingCursor after = null;
+        CursorSliceDTO<FundingHistoryView> page;
+        do {
+            page = memberSlice(memberId, after, EXPORT_CHUNK_SIZE);
+            page.getContent().forEach(action);
+            after = FundingCursor.decode(page.getNextCursor());
+        } while (page.isHasNext());
+    }
+    
+    private CursorSliceDTO<FundingHistoryView> memberSlice(String memberId, FundingCursor cursor, int size) {
+        return fetchSlice(cursor, size,
+                limit -> fundingRepository.findMemberHistory(memberId, limit),
+                (after, limit) -> fundingRepository.findMemberHistoryAfter(memberId, after.createdAt(), after.id(), limit));
+    }
+    
+    private static void checkSliceSize(int size) {
+        if (size < 1 || size > MAX_SLICE_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_SLICE_SIZE);
+        }
+    }
+    
+    // size + 1개를 읽어 다음 페이지 존재 여부를 판단 (COUNT 쿼리 없음)
+    private static CursorSliceDTO<FundingHistoryView> fetchSlice(FundingCursor cursor, int size,
+                                                                 Function<PageRequest, List<FundingHistoryView>> first,
+                                                                 BiFunction<FundingCursor, PageRequest, List<FundingHistoryView>> after) {
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<FundingHistoryView> rows = cursor == null ? first.apply(limit) : after.apply(cursor, limit);
+        boolean hasNext = rows.size() > size;
+        List<FundingHistoryView> content = hasNext ? rows.subList(0, size) : rows;
+        FundingHistoryView last = content.isEmpty() ? null : content.get(content.size() - 1);
+        return CursorSliceDTO.<FundingHistoryView>builder()
+                .content(content)
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? new FundingCursor(last.getCreatedAt(), last.getId()).encode() : null)
+                .build();
+    }
+    
     @Override
     @Transactional(readOnly = true)
     public FundingDTO getFundingById(Long fundingId) {
@@ -89,6 +222,42 @@ public class FundingServiceImpl implements FundingService {
         return convertToDTO(funding);
     }
     
+    @Override
+    @Transactional
+    public FundingDTO updateFundingStatus(Long fundingId, Funding.FundingStatus status, String requesterEmail, boolean admin) {
+        log.info("펀딩 상태 변경: fundingId={}, newStatus={}, requester={}", fundingId, status, requesterEmail);
+        Funding funding = fundingRepository.findByIdForUpdate(fundingId)
+                .orElseThrow(() -> new RuntimeException("펀딩을 찾을 수 없습니다: " + fundingId));
+        
+        if (!admin) {
+            boolean owner = requesterEmail != null && requesterEmail.equals(funding.getMember().getEmail());
+            if (!owner || status != Funding.FundingStatus.CANCELLED) {
+                throw new AccessDeniedException("펀딩 상태를 변경할 권한이 없습니다: " + fundingId);
+            }
+        }
+        
+        Funding.FundingStatus previous = funding.getStatus();
+        if (previous == status) {
+            return convertToDTO(funding);
+        }
+        funding.setStatus(status);
+        
+        // COMPLETED에서 빠지면 차감(취소/환불), 다시 COMPLETED가 되면 가산
+        long amount = funding.getTotalAmount();
+        long delta = (status == Funding.FundingStatus.COMPLETED ? amount : 0)
+                - (previous == Funding.FundingStatus.COMPLETED ? amount : 0);
+        if (delta != 0) {
+            eventPublisher.publishEvent(new FundingChangedEvent(fundingId, funding.getRestaurant().getId(), delta));
+        }
+        
+        Funding updated = fundingRepository.save(funding);
+        outboxPublisher.append(FundingStatusChangedEvent.AGGREGATE, fundingId, FundingStatusChangedEvent.TYPE,
+                new FundingStatusChangedEvent(fundingId, funding.getRestaurant().getId(), funding.getMember().getEmail(),
+                        amount, previous.name(), status.name(), funding.getCreatedAt(), LocalDateTime.now()));
+        log.info("펀딩 상태 변경 완료: fundingId={}, {} -> {}", fundingId, previous, status);
+        return convertToDTO(updated);
+    }
+    
     private FundingDTO convertToDTO(Funding funding) {
         return FundingDTO.builder()
                 .id(funding.getId())
@@ -0,0 +1,59 @@
+package com.backend.service.notification;
+
+import com.backend.domain.restaurant.BusinessRequestStatus;
+import com.backend.event.BusinessRequestReviewedEvent;
+import com.backend.service.outbox.OutboxConsumer;
+import com.backend.service.outbox.OutboxConsumerLog;
+import com.backend.service.outbox.OutboxMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Set;
+
+/**
+ * 가게요청 승인/거부 알림. 검토 트랜잭션 커밋 후 아웃박스를 통해 생성된다.
+ * 같은 이벤트의 이미지 복사가 실패해 재전달되어도 알림은 한 번만 만들도록 완료 기록과 같은 트랜잭션에서 생성한다
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class BusinessRequestNotificationConsumer implements OutboxConsumer {
+
+    private static final String CONSUMER = "business-request-notification";
+
+    private final NotificationService notificationService;
+    private final OutboxConsumerLog consumerLog;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public Set<String> eventTypes() {
+        return Set.of(BusinessRequestReviewedEvent.TYPE);
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public void handle(OutboxMessage message) throws Exception {
+        if (!consumerLog.markDone(message.id(), CONSUMER)) {
+            return; // 이미 알림을 만든 이벤트 (다른 소비자 실패로 재전달)
+        }
+        BusinessRequestReviewedEvent event = objectMapper.readValue(message.payload(), BusinessRequestReviewedEvent.class);
+        if (event.requesterEmail() == null) {
+            log.warn("요청자 없는 가게요청, 알림 생략: id={}", event.businessRequestId());
+            return;
+        }
+
+        if (BusinessRequestStatus.APPROVED.name().equals(event.status())) {
+            notificationService.createBusinessRequestApprovedNotification(event.requesterEmail(), event.businessName());
+            log.info("가게요청 승인 알림 생성 완료: {}", event.requesterEmail());
+        } else if (BusinessRequestStatus.REJECTED.name().equals(event.status())) {
+            notificationService.createBusinessRequestRejectedNotification(
+                    event.requesterEmail(),
+                    event.businessName(),
+                    event.reviewComment() != null ? event.reviewComment() : "사유 없음");
+            log.info("가게요청 거부 알림 생성 완료: {}", event.requesterEmail());
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.backend.service.outbox;
+
+import java.util.Set;
+
+/**
+ * 아웃박스 이벤트 소비자. 스프링 빈으로 등록하면 OutboxDispatcher가 eventTypes()에 맞는 이벤트를 전달한다.
+ * 전달은 최소 한 번(at-least-once)이므로 같은 이벤트가 다시 와도 결과가 같도록 구현해야 한다.
+ * 예외를 던지면 해당 이벤트와 같은 aggregate의 이후 이벤트가 백오프 후 다시 전달된다.
+ * 같은 이벤트의 다른 소비자가 실패해도 다시 호출되므로, 상태로 중복을 판단할 수 없는 부작용(알림 생성 등)은
+ * OutboxConsumerLog.markDone()으로 소비자별 완료를 같은 트랜잭션에 기록한다.
+ */
+public interface OutboxConsumer {
+
+    Set<String> eventTypes();
+
+    void handle(OutboxMessage message) throws Exception;
+}
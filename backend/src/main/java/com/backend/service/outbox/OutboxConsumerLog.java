@@ -0,0 +1,30 @@
+package com.backend.service.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * 소비자별 처리 완료 기록. 디스패처는 이벤트 단위로 다시 전달하므로, 한 이벤트에 소비자가 여럿이면
+ * 하나가 실패할 때 이미 성공한 소비자도 다시 호출된다. 부작용이 있는 소비자는 자기 트랜잭션 안에서
+ * 먼저 markDone()을 호출해, 부작용과 완료 기록이 함께 커밋되거나 함께 롤백되게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxConsumerLog {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** 처음 처리하는 이벤트면 기록하고 true, 이미 처리한 이벤트면 false */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean markDone(long eventId, String consumer) {
+        return jdbcTemplate.update(
+                "INSERT IGNORE INTO outbox_consumer_done (event_id, consumer, done_at) VALUES (?, ?, ?)",
+                eventId, consumer, Timestamp.valueOf(LocalDateTime.now())) > 0;
+    }
+}
@@ -0,0 +1,245 @@
+package com.backend.service.outbox;
+
+import com.backend.dto.outbox.OutboxStatsDTO;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 커밋된 아웃박스 이벤트를 배치로 읽어 소비자에게 전달한다.
+ * - aggregate별로 묶어 id 순서대로 한 작업에서 처리하고, 서로 다른 aggregate는 워커 풀에서 병렬 처리
+ * - 실패하면 그 이벤트와 같은 aggregate의 뒤 이벤트는 멈추고, 지수 백오프 후 실패한 이벤트부터 다시 전달
+ * - MAX_ATTEMPTS를 넘기면 DEAD로 두고 다음 이벤트로 넘어간다 (/api/admin/outbox/{id}/retry 로 재전달)
+ * 디스패처는 서버 한 대에서 도는 것을 전제로 한다 (여러 대면 SELECT ... FOR UPDATE SKIP LOCKED 필요).
+ */
+@Component
+@Log4j2
+public class OutboxDispatcher {
+
+    static final int BATCH_SIZE = 200;
+    static final int WORKERS = 4;
+    static final int MAX_ATTEMPTS = 10;
+    private static final int MAX_BATCHES_PER_RUN = 20;
+    private static final long BASE_BACKOFF_MILLIS = 1_000;
+    private static final long MAX_BACKOFF_MILLIS = 600_000;
+    private static final int RETENTION_DAYS = 7;
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    // 앞선 이벤트가 재시도 대기 중인 aggregate는 순서를 지키기 위해 통째로 건너뛴다
+    private static final String SELECT_READY = """
+            SELECT o.id, o.aggregate_type, o.aggregate_id, o.event_type, o.payload, o.attempts, o.created_at
+            FROM outbox_event o
+            WHERE o.status = 'PENDING' AND o.next_attempt_at <= ?
+              AND NOT EXISTS (SELECT 1 FROM outbox_event h
+                              WHERE h.aggregate_type = o.aggregate_type AND h.aggregate_id = o.aggregate_id
+                                AND h.id < o.id AND h.status = 'PENDING' AND h.next_attempt_at > ?)
+            ORDER BY o.id
+            LIMIT ?
+            """;
+
+    private static final RowMapper<OutboxMessage> MESSAGE_MAPPER = (rs, i) -> new OutboxMessage(
+            rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4), rs.getString(5),
+            rs.getInt(6), rs.getTimestamp(7).toLocalDateTime());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<String, List<OutboxConsumer>> consumers = new HashMap<>();
+    private final ThreadPoolExecutor workers;
+
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder deadLettered = new LongAdder();
+    private volatile long lastBatchLagMillis;
+
+    private record Failure(OutboxMessage message, Exception error) {
+    }
+
+    private static final class GroupResult {
+        final List<OutboxMessage> done = new ArrayList<>();
+        Failure failure;
+    }
+
+    public OutboxDispatcher(JdbcTemplate jdbcTemplate, List<OutboxConsumer> consumerBeans) {
+        this.jdbcTemplate = jdbcTemplate;
+        for (OutboxConsumer consumer : consumerBeans) {
+            for (String type : consumer.eventTypes()) {
+                consumers.computeIfAbsent(type, k -> new ArrayList<>()).add(consumer);
+            }
+        }
+        // 한 배치의 aggregate 수가 BATCH_SIZE를 넘지 않으므로 큐가 넘치지 않는다. 넘치면 호출 스레드에서 실행
+        this.workers = new ThreadPoolExecutor(WORKERS, WORKERS, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(BATCH_SIZE),
+                Thread.ofPlatform().name("outbox-", 0).daemon().factory(),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        log.info("아웃박스 소비자 등록: {}", consumers.keySet());
+    }
+
+    /** 밀린 이벤트가 있으면 한 번에 여러 배치를 연속 처리 */
+    @Scheduled(fixedDelay = 200)
+    public synchronized void dispatch() {
+        for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+            if (dispatchBatch() < BATCH_SIZE) return;
+        }
+    }
+
+    /** @return 이번에 읽은 이벤트 수 */
+    int dispatchBatch() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<OutboxMessage> batch = jdbcTemplate.query(SELECT_READY, MESSAGE_MAPPER, now, now, BATCH_SIZE);
+        if (batch.isEmpty()) return 0;
+
+        Map<String, List<OutboxMessage>> groups = new LinkedHashMap<>();
+        for (OutboxMessage m : batch) {
+            groups.computeIfAbsent(m.aggregateType() + ":" + m.aggregateId(), k -> new ArrayList<>()).add(m);
+        }
+
+        List<Future<GroupResult>> futures = new ArrayList<>(groups.size());
+        for (List<OutboxMessage> group : groups.values()) {
+            futures.add(workers.submit(() -> deliver(group)));
+        }
+
+        List<OutboxMessage> done = new ArrayList<>();
+        List<Failure> failures = new ArrayList<>();
+        for (Future<GroupResult> future : futures) {
+            try {
+                GroupResult result = future.get();
+                done.addAll(result.done);
+                if (result.failure != null) failures.add(result.failure);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException e) {
+                // deliver()는 소비자 예외를 잡으므로 여기까지 오지 않음. 결과를 모르면 다음 주기에 다시 전달된다
+                log.error("아웃박스 전달 작업 오류", e.getCause());
+            }
+        }
+
+        LocalDateTime processedAt = LocalDateTime.now();
+        markDone(done, processedAt);
+        failures.forEach(f -> markFailed(f, processedAt));
+        return batch.size();
+    }
+
+    private GroupResult deliver(List<OutboxMessage> group) {
+        GroupResult result = new GroupResult();
+        for (OutboxMessage message : group) {
+            try {
+                for (OutboxConsumer consumer : consumers.getOrDefault(message.eventType(), List.of())) {
+                    consumer.handle(message);
+                }
+                result.done.add(message);
+            } catch (Exception e) {
+                // 같은 aggregate의 뒤 이벤트는 이번 배치에서 처리하지 않는다 (순서 보장)
+                result.failure = new Failure(message, e);
+                break;
+            }
+        }
+        return result;
+    }
+
+    private void markDone(List<OutboxMessage> done, LocalDateTime processedAt) {
+        if (done.isEmpty()) return;
+        Timestamp at = Timestamp.valueOf(processedAt);
+        List<Object[]> params = new ArrayList<>(done.size());
+        long maxLag = 0;
+        for (OutboxMessage m : done) {
+            params.add(new Object[]{at, m.id()});
+            maxLag = Math.max(maxLag, Duration.between(m.createdAt(), processedAt).toMillis());
+        }
+        jdbcTemplate.batchUpdate("UPDATE outbox_event SET status = 'DONE', processed_at = ? WHERE id = ?", params);
+        delivered.add(done.size());
+        lastBatchLagMillis = maxLag;
+    }
+
+    private void markFailed(Failure f, LocalDateTime now) {
+        OutboxMessage m = f.message();
+        int attempts = m.attempts() + 1;
+        String error = String.valueOf(f.error());
+        if (error.length() > MAX_ERROR_LENGTH) error = error.substring(0, MAX_ERROR_LENGTH);
+        failed.increment();
+
+        if (attempts >= MAX_ATTEMPTS) {
+            jdbcTemplate.update("UPDATE outbox_event SET status = 'DEAD', attempts = ?, last_error = ?, processed_at = ? WHERE id = ?",
+                    attempts, error, Timestamp.valueOf(now), m.id());
+            deadLettered.increment();
+            log.error("아웃박스 이벤트 전달 포기: id={}, type={}, aggregate={}:{}",
+                    m.id(), m.eventType(), m.aggregateType(), m.aggregateId(), f.error());
+            return;
+        }
+        long backoff = Math.min(MAX_BACKOFF_MILLIS, BASE_BACKOFF_MILLIS << Math.min(attempts - 1, 20));
+        jdbcTemplate.update("UPDATE outbox_event SET attempts = ?, last_error = ?, next_attempt_at = ? WHERE id = ?",
+                attempts, error, Timestamp.valueOf(now.plusNanos(backoff * 1_000_000)), m.id());
+        log.warn("아웃박스 이벤트 전달 실패, {}ms 후 재시도 ({}회): id={}, type={}",
+                backoff, attempts, m.id(), m.eventType(), f.error());
+    }
+
+    /** DEAD 이벤트를 다시 전달 대기로. 없거나 DEAD가 아니면 false */
+    public boolean retryDead(Long id) {
+        return jdbcTemplate.update("UPDATE outbox_event SET status = 'PENDING', attempts = 0, next_attempt_at = ?, processed_at = NULL "
+                + "WHERE id = ? AND status = 'DEAD'", Timestamp.valueOf(LocalDateTime.now()), id) > 0;
+    }
+
+    public OutboxStatsDTO stats() {
+        Object[] pending = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*), MIN(created_at) FROM outbox_event WHERE status = 'PENDING'",
+                (rs, i) -> new Object[]{rs.getLong(1), rs.getTimestamp(2)});
+        Long dead = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_event WHERE status = 'DEAD'", Long.class);
+        Timestamp oldest = (Timestamp) pending[1];
+        return OutboxStatsDTO.builder()
+                .pending((Long) pending[0])
+                .dead(dead == null ? 0 : dead)
+                .oldestPendingAgeMillis(oldest == null ? null
+                        : Duration.between(oldest.toLocalDateTime(), LocalDateTime.now()).toMillis())
+                .lastBatchLagMillis(lastBatchLagMillis)
+                .delivered(delivered.sum())
+                .failed(failed.sum())
+                .deadLettered(deadLettered.sum())
+                .activeWorkers(workers.getActiveCount())
+                .queuedTasks(workers.getQueue().size())
+                .build();
+    }
+
+    /** 처리 완료 후 보관 기간이 지난 행 정리 (한 번에 많이 지우면 잠금이 길어지므로 나눠서) */
+    @Scheduled(cron = "0 30 4 * * *")
+    public void purgeDone() {
+        Timestamp before = Timestamp.valueOf(LocalDateTime.now().minusDays(RETENTION_DAYS));
+        int total = 0;
+        int deleted;
+        // 소비자별 완료 기록은 이벤트보다 먼저 (이벤트가 남아 있는 동안은 재전달될 수 있으므로 유지)
+        do {
+            deleted = jdbcTemplate.update("DELETE FROM outbox_consumer_done WHERE event_id IN "
+                    + "(SELECT id FROM outbox_event WHERE status = 'DONE' AND processed_at < ?) LIMIT 10000", before);
+        } while (deleted > 0);
+        do {
+            deleted = jdbcTemplate.update(
+                    "DELETE FROM outbox_event WHERE status = 'DONE' AND processed_at < ? LIMIT 10000", before);
+            total += deleted;
+        } while (deleted > 0);
+        if (total > 0) log.info("처리 완료 아웃박스 이벤트 정리: {}건", total);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        workers.shutdown();
+        if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+        }
+    }
+}
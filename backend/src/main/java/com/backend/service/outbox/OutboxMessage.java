@@ -0,0 +1,8 @@
+package com.backend.service.outbox;
+
+import java.time.LocalDateTime;
+
+/** 소비자에게 전달되는 아웃박스 이벤트. payload는 JSON 문자열 */
+public record OutboxMessage(long id, String aggregateType, String aggregateId, String eventType,
+                            String payload, int attempts, LocalDateTime createdAt) {
+}
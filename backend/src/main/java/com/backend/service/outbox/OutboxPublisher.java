@@ -0,0 +1,39 @@
+package com.backend.service.outbox;
+
+import com.backend.domain.outbox.OutboxEvent;
+import com.backend.repository.outbox.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 업무 트랜잭션 안에서 아웃박스 행을 추가한다. 업무 데이터와 함께 커밋되거나 함께 롤백되므로
+ * 부가 처리(알림, 통계 등)가 빠지거나 롤백된 변경에 대해 실행되는 일이 없다.
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxPublisher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    /** 진행 중인 트랜잭션이 없으면 예외 (트랜잭션 밖 INSERT는 아웃박스 의미가 없음) */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String aggregateType, Object aggregateId, String eventType, Object payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("아웃박스 이벤트 직렬화 실패: " + eventType, e);
+        }
+        outboxEventRepository.save(OutboxEvent.builder()
+                .aggregateType(aggregateType)
+                .aggregateId(String.valueOf(aggregateId))
+                .eventType(eventType)
+                .payload(json)
+                .build());
+    }
+}
@@ -0,0 +1,99 @@
+package com.backend.service.restaurant;
+
+import com.backend.domain.restaurant.BusinessRequestStatus;
+import com.backend.domain.restaurant.Restaurant;
+import com.backend.domain.restaurant.RestaurantImage;
+import com.backend.event.BusinessRequestReviewedEvent;
+import com.backend.event.RestaurantChangedEvent;
+import com.backend.repository.restaurant.RestaurantImageRepository;
+import com.backend.repository.restaurant.RestaurantRepository;
+import com.backend.service.outbox.OutboxConsumer;
+import com.backend.service.outbox.OutboxMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Set;
+
+/**
+ * 승인된 가게요청의 이미지를 가게용 폴더로 복사하고 대표 이미지로 등록한다.
+ * 파일 복사가 검토 요청 시간에 포함되지 않도록 커밋 후 아웃박스를 통해 실행된다.
+ * 재전달되어도 대표 이미지가 이미 있으면 건너뛰고, 파일명은 요청 ID로 정해 같은 파일을 덮어쓴다.
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class BusinessRequestImageConsumer implements OutboxConsumer {
+
+	private static final String RESTAURANT_IMAGE_DIR = "uploads/restaurants/";
+
+	private final RestaurantRepository restaurantRepository;
+	private final RestaurantImageRepository restaurantImageRepository;
+	private final ApplicationEventPublisher eventPublisher;
+	private final ObjectMapper objectMapper;
+
+	@Override
+	public Set<String> eventTypes() {
+		return Set.of(BusinessRequestReviewedEvent.TYPE);
+	}
+
+	@Override
+	@Transactional
+	public void handle(OutboxMessage message) throws Exception {
+		BusinessRequestReviewedEvent event = objectMapper.readValue(message.payload(), BusinessRequestReviewedEvent.class);
+		if (!BusinessRequestStatus.APPROVED.name().equals(event.status())
+				|| event.restaurantId() == null
+				|| event.imageUrl() == null || event.imageUrl().trim().isEmpty()) {
+			return;
+		}
+
+		Restaurant restaurant = restaurantRepository.findById(event.restaurantId()).orElse(null);
+		if (restaurant == null) {
+			log.warn("이미지 등록 대상 음식점 없음: restaurantId={}", event.restaurantId());
+			return;
+		}
+		if (restaurant.getMainImageId() != null) return; // 이미 처리됨
+
+		String restaurantImageUrl = copyImageToRestaurantFolder(event.imageUrl(), event.businessRequestId());
+
+		restaurantImageRepository.save(RestaurantImage.builder()
+				.restaurant(restaurant)
+				.imageUrl(restaurantImageUrl)
+				.isMain(true) // 메인 이미지로 설정
+				.sortOrder(0) // 첫 번째 이미지
+				.build());
+
+		// 대표 이미지 비정규화 컬럼 갱신 (nearby/상세 쿼리가 PK 조인으로 사용). 이미지 변경 경로는 모두 같은 쿼리로 재계산
+		restaurantRepository.refreshMainImage(restaurant.getId());
+		eventPublisher.publishEvent(new RestaurantChangedEvent(restaurant.getId()));
+		log.info("RestaurantImage 저장 완료: restaurantId={}, {}", restaurant.getId(), restaurantImageUrl);
+	}
+
+	// 원본이 없으면 원본 경로를 그대로 쓰고, 복사 중 IO 오류는 던져서 재시도한다
+	private String copyImageToRestaurantFolder(String businessRequestImageUrl, Long businessRequestId) throws IOException {
+		Path sourcePath = Paths.get(businessRequestImageUrl);
+		if (!Files.exists(sourcePath)) {
+			log.warn("원본 이미지 파일을 찾을 수 없습니다: {}", businessRequestImageUrl);
+			return businessRequestImageUrl;
+		}
+
+		Path restaurantPath = Paths.get(RESTAURANT_IMAGE_DIR);
+		Files.createDirectories(restaurantPath);
+
+		int dot = businessRequestImageUrl.lastIndexOf('.');
+		String extension = dot < 0 ? "" : businessRequestImageUrl.substring(dot);
+		String filename = "business-request-" + businessRequestId + extension;
+		Files.copy(sourcePath, restaurantPath.resolve(filename), StandardCopyOption.REPLACE_EXISTING);
+
+		log.info("이미지 복사 완료: {} -> {}", businessRequestImageUrl, RESTAURANT_IMAGE_DIR + filename);
+		return RESTAURANT_IMAGE_DIR + filename;
+	}
+}
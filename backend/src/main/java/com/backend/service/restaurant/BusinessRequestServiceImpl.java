@@ -6,15 +6,16 @@ import com.backend.domain.restaurant.BusinessRequestStatus;
 import com.backend.dto.restaurant.BusinessRequestCreateDTO;
 import com.backend.dto.restaurant.BusinessRequestDTO;
 import com.backend.dto.restaurant.BusinessRequestReviewDTO;
+import com.backend.event.BusinessRequestReviewedEvent;
+import com.backend.event.RestaurantChangedEvent;
 import com.backend.repository.member.MemberRepository;
 import com.backend.repository.restaurant.BusinessRequestRepository;
 import com.backend.repository.restaurant.RestaurantRepository;
-import com.backend.repository.restaurant.RestaurantImageRepository;
 import com.backend.domain.restaurant.Restaurant;
-import com.backend.domain.restaurant.RestaurantImage;
-import com.backend.service.notification.NotificationService;
+import com.backend.service.outbox.OutboxPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -42,8 +43,10 @@ public class BusinessRequestServiceImpl implements BusinessRequestService {
     private final BusinessRequestRepository businessRequestRepository;
     private final MemberRepository memberRepository;
     private final RestaurantRepository restaurantRepository;
-    private final RestaurantImageRepository restaurantImageRepository;
-    private final NotificationService notificationService;
+    private final OutboxPublisher outboxPublisher;
+    private final RestaurantGeoIndex restaurantGeoIndex;
+    private final RestaurantCategoryTree restaurantCategoryTree;
+    private final ApplicationEventPublisher eventPublisher;
     
     // 이미지 저장 경로
     private static final String UPLOAD_DIR = "uploads/business-requests/";
@@ -140,43 +143,31 @@ public class BusinessRequestServiceImpl implements BusinessRequestService {
             BusinessRequest updatedRequest = businessRequestRepository.save(request);
             log.info("비즈니스 요청 상태 업데이트 완료: {} -> {}", request.getStatus(), updatedRequest.getStatus());
             
-            // 승인된 경우 restaurant과 restaurant_image 테이블에 데이터 저장
+            // 승인된 경우 restaurant 테이블에 데이터 저장 (대표 이미지 복사는 커밋 후 BusinessRequestImageConsumer)
+            Long restaurantId = null;
             if (reviewDTO.getStatus() == BusinessRequestStatus.APPROVED) {
                 try {
-                    createRestaurantFromBusinessRequest(updatedRequest);
+                    restaurantId = createRestaurantFromBusinessRequest(updatedRequest);
                     log.info("Restaurant 생성 완료: {}", updatedRequest.getName());
                 } catch (Exception e) {
                     log.error("Restaurant 생성 실패: {}", e.getMessage(), e);
                     // Restaurant 생성 실패 시에도 비즈니스 요청 상태는 업데이트된 상태로 유지
                     // 필요시 상태를 ROLLBACK할 수 있음
                 }
-                
-                // 승인 알림 생성
-                try {
-                    notificationService.createBusinessRequestApprovedNotification(
-                        updatedRequest.getRequesterEmail(), 
-                        updatedRequest.getName()
-                    );
-                    log.info("가게요청 승인 알림 생성 완료: {}", updatedRequest.getRequesterEmail());
-                } catch (Exception e) {
-                    log.error("가게요청 승인 알림 생성 실패: {}", e.getMessage(), e);
-                    // 알림 생성 실패는 전체 프로세스에 영향을 주지 않도록 함
-                }
-            } else if (reviewDTO.getStatus() == BusinessRequestStatus.REJECTED) {
-                // 거부 알림 생성
-                try {
-                    notificationService.createBusinessRequestRejectedNotification(
-                        updatedRequest.getRequesterEmail(), 
-                        updatedRequest.getName(),
-                        reviewDTO.getReviewComment() != null ? reviewDTO.getReviewComment() : "사유 없음"
-                    );
-                    log.info("가게요청 거부 알림 생성 완료: {}", updatedRequest.getRequesterEmail());
-                } catch (Exception e) {
-                    log.error("가게요청 거부 알림 생성 실패: {}", e.getMessage(), e);
-                    // 알림 생성 실패는 전체 프로세스에 영향을 주지 않도록 함
-                }
             }
             
+            // 승인/거부 알림, 이미지 복사는 같은 트랜잭션에 아웃박스로 기록하고 커밋 후 처리
+            outboxPublisher.append(BusinessRequestReviewedEvent.AGGREGATE, updatedRequest.getId(),
+                    BusinessRequestReviewedEvent.TYPE,
+                    new BusinessRequestReviewedEvent(
+                            updatedRequest.getId(),
+                            updatedRequest.getStatus().name(),
+                            updatedRequest.getRequesterEmail(),
+                            updatedRequest.getName(),
+                            reviewDTO.getReviewComment(),
+                            restaurantId,
+                            updatedRequest.getImageUrl()));
+            
             log.info("비즈니스 요청 검토 완료: ID={}, Status={}", updatedRequest.getId(), updatedRequest.getStatus());
             return convertToDTO(updatedRequest);
             
@@ -217,40 +208,6 @@ public class BusinessRequestServiceImpl implements BusinessRequestService {
         }
     }
 
-    // 가게 요청 이미지를 가게용 폴더로 복사하는 메서드
-    private String copyImageToRestaurantFolder(String businessRequestImageUrl) {
-        try {
-            // 가게용 이미지 디렉토리
-            String restaurantImageDir = "uploads/restaurants/";
-            Path restaurantPath = Paths.get(restaurantImageDir);
-            if (!Files.exists(restaurantPath)) {
-                Files.createDirectories(restaurantPath);
-            }
-            
-            // 원본 파일 경로
-            Path sourcePath = Paths.get(businessRequestImageUrl);
-            if (!Files.exists(sourcePath)) {
-                log.warn("원본 이미지 파일을 찾을 수 없습니다: {}", businessRequestImageUrl);
-                return businessRequestImageUrl; // 원본 경로 반환
-            }
-            
-            // 새 파일명 생성 (UUID 사용)
-            String extension = businessRequestImageUrl.substring(businessRequestImageUrl.lastIndexOf("."));
-            String filename = UUID.randomUUID().toString() + extension;
-            
-            // 가게용 폴더로 복사
-            Path targetPath = restaurantPath.resolve(filename);
-            Files.copy(sourcePath, targetPath);
-            
-            log.info("이미지 복사 완료: {} -> {}", businessRequestImageUrl, restaurantImageDir + filename);
-            return restaurantImageDir + filename;
-            
-        } catch (IOException e) {
-            log.error("이미지 복사 중 오류 발생: {}", businessRequestImageUrl, e);
-            return businessRequestImageUrl; // 오류 시 원본 경로 반환
-        }
-    }
-
     // String을 LocalDate로 변환하는 헬퍼 메서드
     private LocalDate parseDate(String dateString) {
         if (dateString == null || dateString.trim().isEmpty()) {
@@ -290,8 +247,8 @@ public class BusinessRequestServiceImpl implements BusinessRequestService {
         }
     }
 
-    // BusinessRequest를 Restaurant과 RestaurantImage로 변환하여 저장
-    private void createRestaurantFromBusinessRequest(BusinessRequest businessRequest) {
+    // BusinessRequest를 Restaurant으로 변환하여 저장, 생성된 ID 반환
+    private Long createRestaurantFromBusinessRequest(BusinessRequest businessRequest) {
         try {
             log.info("Restaurant 생성 시작: BusinessRequest ID={}, Name={}", businessRequest.getId(), businessRequest.getName());
             
@@ -311,12 +268,14 @@ public class BusinessRequestServiceImpl implements BusinessRequestService {
                     // .id(businessRequest.getId()) // ID는 자동 증가로 설정됨
                     .name(businessRequest.getName().trim())
                     .categoryName(businessRequest.getCategoryName().trim())
+                    .categoryId(restaurantCategoryTree.resolve(businessRequest.getCategoryName()))
                     .phone(businessRequest.getPhone() != null ? businessRequest.getPhone().trim() : null)
                     .roadAddressName(businessRequest.getRoadAddressName().trim())
                     .x(businessRequest.getX())
                     .y(businessRequest.getY())
                     .placeUrl(businessRequest.getPlaceUrl())
                     .fundingAmount(0L) // 초기 펀딩 금액은 0
+                    .totalFundingAmount(0L)
                     .fundingGoalAmount(businessRequest.getFundingGoalAmount() != null ? businessRequest.getFundingGoalAmount() : 0L)
                     .fundingStartDate(parseDate(businessRequest.getFundingStartDate()))
                     .fundingEndDate(parseDate(businessRequest.getFundingEndDate()))
@@ -327,31 +286,14 @@ public class BusinessRequestServiceImpl implements BusinessRequestService {
             // Restaurant 저장
             Restaurant savedRestaurant = restaurantRepository.save(restaurant);
             log.info("Restaurant 저장 완료: ID={}", savedRestaurant.getId());
-            
-            // 이미지가 있는 경우 가게용 경로로 복사하고 RestaurantImage 엔티티 생성
-            if (businessRequest.getImageUrl() != null && !businessRequest.getImageUrl().trim().isEmpty()) {
-                try {
-                    String restaurantImageUrl = copyImageToRestaurantFolder(businessRequest.getImageUrl());
-                    
-                    RestaurantImage restaurantImage = RestaurantImage.builder()
-                            .restaurant(savedRestaurant)
-                            .imageUrl(restaurantImageUrl)
-                            .isMain(true) // 메인 이미지로 설정
-                            .sortOrder(0) // 첫 번째 이미지
-                            .build();
-                    
-                    restaurantImageRepository.save(restaurantImage);
-                    log.info("RestaurantImage 저장 완료: {}", restaurantImageUrl);
-                } catch (Exception e) {
-                    log.error("이미지 처리 중 오류 발생: {}", e.getMessage(), e);
-                    // 이미지 처리 실패는 Restaurant 생성에 영향을 주지 않도록 함
-                }
-            } else {
-                log.info("이미지가 없어 RestaurantImage 생성을 건너뜁니다.");
-            }
+
+            // nearby 검색용 메모리 인덱스에 반영
+            restaurantGeoIndex.put(savedRestaurant);
+            eventPublisher.publishEvent(new RestaurantChangedEvent(savedRestaurant.getId()));
             
             log.info("BusinessRequest ID: {} 승인 완료. Restaurant ID: {} 생성됨", 
                     businessRequest.getId(), savedRestaurant.getId());
+            return savedRestaurant.getId();
                     
         } catch (Exception e) {
             log.error("Restaurant 생성 중 오류 발생: BusinessRequest ID: {}, Name: {}", 
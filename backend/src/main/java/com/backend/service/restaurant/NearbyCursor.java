@@ -0,0 +1,36 @@
+package com.backend.service.restaurant;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * nearby 커서 토큰: 마지막으로 내려간 (거리, 음식점 ID) 쌍.
+ * 클라이언트에는 불투명한 base64url 문자열로만 노출한다.
+ */
+public record NearbyCursor(double distance, long restaurantId) {
+
+	/** 첫 페이지 (모든 행보다 앞) */
+	public static final NearbyCursor FIRST = new NearbyCursor(-1, 0);
+
+	public String encode() {
+		String raw = distance + ":" + restaurantId;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static NearbyCursor decode(String token) {
+		if (token == null || token.isBlank()) return FIRST;
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			int sep = raw.lastIndexOf(':');
+			return new NearbyCursor(Double.parseDouble(raw.substring(0, sep)), Long.parseLong(raw.substring(sep + 1)));
+		} catch (RuntimeException e) {
+			throw new IllegalArgumentException("invalid cursor: " + token);
+		}
+	}
+
+	/** (distance, id)가 이 커서보다 뒤에 있는지 */
+	public boolean isBefore(double otherDistance, long otherId) {
+		int c = Double.compare(distance, otherDistance);
+		return c < 0 || (c == 0 && restaurantId < otherId);
+	}
+}
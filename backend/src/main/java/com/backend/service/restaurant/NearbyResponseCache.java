@@ -0,0 +1,105 @@
+package com.backend.service.restaurant;
+
+import com.backend.dto.forone.ForOneMenuNearbyView;
+import com.backend.dto.restaurant.RestaurantThumbView;
+import com.backend.event.ForOneSlotChangedEvent;
+import com.backend.event.FundingProgressFlushedEvent;
+import com.backend.event.RestaurantChangedEvent;
+import com.backend.util.GeoUtils;
+import com.backend.util.LruTtlCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.function.Supplier;
+
+/**
+ * nearby 응답 캐시 (음식점 / 한그릇).
+ * 좌표는 약 110m 격자 중심으로, 반경은 100m 단위로 맞춘 키를 쓰므로 근처에서 들어온 요청들이 같은 결과를 공유한다.
+ * 크기 상한 + TTL 외에, 펀딩 금액 기록/가게 승인/슬롯 변경 이벤트가 오면 그 음식점을 반경에 포함하는 항목만 지운다.
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class NearbyResponseCache {
+
+	private static final double CELL_DEGREES = 0.001; // 약 110m
+	private static final int RADIUS_STEP = 100;       // m
+	private static final int MAX_ENTRIES = 2000;
+	private static final long TTL_MILLIS = 60_000;
+
+	// 요청 좌표와 격자 중심의 차이(최대 반 칸 대각선)보다 넉넉하게 무효화 범위를 넓힘
+	private static final double CELL_SLACK_METERS = GeoUtils.metersPerDegree() * CELL_DEGREES;
+
+	private final RestaurantGeoIndex restaurantGeoIndex;
+
+	private final LruTtlCache<Key, Page<RestaurantThumbView>> restaurants = new LruTtlCache<>(MAX_ENTRIES, TTL_MILLIS);
+	private final LruTtlCache<Key, Page<ForOneMenuNearbyView>> forOne = new LruTtlCache<>(MAX_ENTRIES, TTL_MILLIS);
+
+	public record Key(int latCell, int lngCell, int radius, long categoryId, int page, int size) {
+
+		public double lat() {
+			return latCell * CELL_DEGREES;
+		}
+
+		public double lng() {
+			return lngCell * CELL_DEGREES;
+		}
+
+		boolean covers(double pointLat, double pointLng) {
+			return GeoUtils.distanceMeters(lat(), lng(), pointLat, pointLng) <= radius + CELL_SLACK_METERS;
+		}
+	}
+
+	/** 요청 좌표/반경을 캐시 키로 양자화. 캐시 미스 시에도 key.lat()/lng()/radius()로 조회해야 결과가 키와 일치한다. */
+	public static Key key(double lat, double lng, double radius, int page, int size) {
+		return key(lat, lng, radius, null, page, size);
+	}
+
+	/** categoryId: 카테고리 필터 (null이면 전체) */
+	public static Key key(double lat, double lng, double radius, Long categoryId, int page, int size) {
+		int snappedRadius = (int) Math.max(RADIUS_STEP, Math.round(radius / RADIUS_STEP) * RADIUS_STEP);
+		return new Key(
+				(int) Math.round(lat / CELL_DEGREES),
+				(int) Math.round(lng / CELL_DEGREES),
+				snappedRadius, categoryId == null ? 0 : categoryId, page, size);
+	}
+
+	public Page<RestaurantThumbView> restaurants(Key key, Supplier<Page<RestaurantThumbView>> loader) {
+		return restaurants.getOrLoad(key, loader);
+	}
+
+	public Page<ForOneMenuNearbyView> forOne(Key key, Supplier<Page<ForOneMenuNearbyView>> loader) {
+		return forOne.getOrLoad(key, loader);
+	}
+
+	@EventListener
+	public void onFundingProgressFlushed(FundingProgressFlushedEvent event) {
+		event.restaurantIds().forEach(id -> invalidateAround(restaurants, id));
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onRestaurantChanged(RestaurantChangedEvent event) {
+		invalidateAround(restaurants, event.restaurantId());
+		invalidateAround(forOne, event.restaurantId());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onForOneSlotChanged(ForOneSlotChangedEvent event) {
+		invalidateAround(forOne, event.restaurantId());
+	}
+
+	private void invalidateAround(LruTtlCache<Key, ?> cache, Long restaurantId) {
+		RestaurantGeoIndex.Point point = restaurantGeoIndex.get(restaurantId);
+		if (point == null) {
+			cache.invalidateAll();
+			return;
+		}
+		int removed = cache.invalidateIf(k -> k.covers(point.lat(), point.lng()));
+		log.debug("nearby cache invalidated around restaurantId={}: {} entries", restaurantId, removed);
+	}
+}
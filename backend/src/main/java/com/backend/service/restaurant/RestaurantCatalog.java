@@ -0,0 +1,122 @@
+package com.backend.service.restaurant;
+
+import com.backend.event.FundingProgressFlushedEvent;
+import com.backend.event.RestaurantChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 음식점 목록 스냅샷(RestaurantCatalogSnapshot)의 보관/교체 담당.
+ * 기동 시 전체를 만들고, 음식점 변경/펀딩 금액 기록 이벤트가 오면 바뀐 행만 DB에서 다시 읽어 새 스냅샷으로 바꿔 끼운다.
+ * 이벤트를 거치지 않는 변경(대조 작업, 이미지 재계산 등)은 주기적인 전체 재생성으로 반영된다.
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class RestaurantCatalog {
+
+	private static final String SELECT_ROWS = """
+			SELECT r.id, r.name, r.category_name, r.road_address_name, r.place_url, r.category_id,
+			       r.x, r.y, r.funding_amount, r.funding_goal_amount, r.total_funding_amount,
+			       r.funding_start_date, r.funding_end_date,
+			       i.id, i.image_url, i.is_main, i.sort_order
+			FROM restaurant r
+			LEFT JOIN restaurant_image i ON i.id = r.main_image_id
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final AtomicReference<RestaurantCatalogSnapshot> current = new AtomicReference<>();
+	private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+	/** 아직 만들어지지 않았으면 null */
+	public RestaurantCatalogSnapshot snapshot() {
+		return current.get();
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void load() {
+		rebuildAll();
+	}
+
+	@Scheduled(initialDelay = 600_000, fixedDelay = 600_000)
+	public synchronized void rebuildAll() {
+		pending.clear();
+		List<RestaurantCatalogSnapshot.Row> rows = jdbcTemplate.query(SELECT_ROWS, (rs, i) -> row(rs));
+		current.set(RestaurantCatalogSnapshot.of(rows));
+		log.info("Built restaurant catalog snapshot: {} rows", rows.size());
+	}
+
+	// nearby 응답 캐시 무효화보다 먼저 반영되어야 하므로 순서를 앞에 둔다
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	@Order(0)
+	public void onRestaurantChanged(RestaurantChangedEvent event) {
+		markChanged(event.restaurantId());
+	}
+
+	// 펀딩 금액은 FundingProgressService가 DB에 기록한 뒤에 다시 읽는다
+	@EventListener
+	@Order(0)
+	public void onFundingProgressFlushed(FundingProgressFlushedEvent event) {
+		pending.addAll(event.restaurantIds());
+		applyPending();
+	}
+
+	private void markChanged(Long restaurantId) {
+		if (restaurantId == null) return;
+		pending.add(restaurantId);
+		applyPending();
+	}
+
+	/**
+	 * 쌓인 변경 ID를 한 번에 반영. 다른 스레드가 반영 중이면 기다렸다가 그 사이 쌓인 것까지 함께 처리하므로
+	 * 변경이 몰려도 재생성 횟수는 늘지 않는다.
+	 */
+	private synchronized void applyPending() {
+		RestaurantCatalogSnapshot snapshot = current.get();
+		if (snapshot == null || pending.isEmpty()) return;
+
+		Long[] ids = pending.toArray(new Long[0]);
+		for (Long id : ids) pending.remove(id);
+
+		String placeholders = String.join(",", Collections.nCopies(ids.length, "?"));
+		List<RestaurantCatalogSnapshot.Row> rows = jdbcTemplate.query(
+				SELECT_ROWS + " WHERE r.id IN (" + placeholders + ")", (rs, i) -> row(rs), (Object[]) ids);
+
+		long[] changed = new long[ids.length];
+		for (int i = 0; i < ids.length; i++) changed[i] = ids[i];
+		current.set(snapshot.withChanges(changed, rows));
+		log.debug("Applied {} restaurant changes to catalog snapshot", ids.length);
+	}
+
+	private static RestaurantCatalogSnapshot.Row row(ResultSet rs) throws SQLException {
+		Date start = rs.getDate(12);
+		Date end = rs.getDate(13);
+		Boolean isMain = rs.getObject(16) == null ? null : rs.getBoolean(16); // BIT(1)
+		return new RestaurantCatalogSnapshot.Row(
+				rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4), rs.getString(5),
+				rs.getObject(6, Long.class),
+				rs.getDouble(7), rs.getDouble(8), rs.getLong(9), rs.getLong(10), rs.getLong(11),
+				start == null ? null : start.toLocalDate(),
+				end == null ? null : end.toLocalDate(),
+				rs.getObject(14, Long.class), rs.getString(15),
+				isMain == null ? null : (isMain ? 1 : 0), rs.getObject(17, Integer.class));
+	}
+}
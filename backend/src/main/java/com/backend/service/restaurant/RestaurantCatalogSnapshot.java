@@ -0,0 +1,452 @@
+package com.backend.service.restaurant;
+
+import com.backend.dto.restaurant.RestaurantThumbView;
+import com.backend.util.GeoUtils;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 음식점 목록 화면용 읽기 전용 스냅샷.
+ * 컬럼마다 힙 밖(direct ByteBuffer) 배열 하나씩, 행은 id 오름차순이다.
+ * 문자열(이름/카테고리/주소/URL)은 사전(dictionary)에 한 번만 두고 컬럼에는 코드(int)만 저장한다.
+ * 한 번 만들면 바뀌지 않으며, 변경은 새 스냅샷을 만들어 통째로 교체한다(RestaurantCatalog).
+ * <p>
+ * 컬럼은 PAGE_ROWS행 단위 페이지로 나뉘어 있고, 새 스냅샷은 바뀌지 않은 페이지를 이전 스냅샷과 공유한다(copy-on-write).
+ * 기존 행의 값만 바뀐 경우(펀딩 금액 기록 등) 반영 비용은
+ * 값이 실제로 바뀐 (컬럼, 페이지)마다 페이지 하나 복사 + 바뀐 컬럼마다 페이지 참조 배열(행 수 / PAGE_ROWS개) 복사이다.
+ * 행이 추가/삭제되면 뒤 행의 위치가 밀리므로 전체 컬럼을 다시 만든다 (음식점 등록/삭제 시에만, O(행 수)).
+ */
+public final class RestaurantCatalogSnapshot {
+
+	static final int NULL_CODE = -1;
+	static final int NULL_INT = Integer.MIN_VALUE;
+
+	private static final int PAGE_SHIFT = 10;
+	static final int PAGE_ROWS = 1 << PAGE_SHIFT;
+	private static final int PAGE_MASK = PAGE_ROWS - 1;
+
+	// 컬럼 번호와 폭(byte). double은 long 비트로 저장
+	private static final int ID = 0, X = 1, Y = 2, FUNDING_AMOUNT = 3, FUNDING_GOAL_AMOUNT = 4, TOTAL_FUNDING_AMOUNT = 5,
+			START_DAY = 6, END_DAY = 7, CATEGORY_ID = 8, IMAGE_ID = 9, IS_MAIN = 10, SORT_ORDER = 11,
+			NAME = 12, CATEGORY_NAME = 13, ADDRESS = 14, PLACE_URL = 15, IMAGE_URL = 16;
+	private static final int[] WIDTHS = {8, 8, 8, 8, 8, 8, 4, 4, 8, 8, 4, 4, 4, 4, 4, 4, 4};
+
+	/** DB에서 읽은 한 행 (스냅샷 생성 중에만 사용). null 가능 값은 위 NULL_* 규약으로 변환해 저장 */
+	record Row(long id, String name, String categoryName, String roadAddressName, String placeUrl, Long categoryId,
+			   double x, double y, long fundingAmount, long fundingGoalAmount, long totalFundingAmount,
+			   LocalDate fundingStartDate, LocalDate fundingEndDate,
+			   Long imageId, String imageUrl, Integer isMain, Integer sortOrder) {
+	}
+
+	private final int size;
+	private final Column[] columns;
+	private final List<String> dictionary;
+	private final Map<String, Integer> codes;
+
+	private RestaurantCatalogSnapshot(int size, Column[] columns, List<String> dictionary, Map<String, Integer> codes) {
+		this.size = size;
+		this.columns = columns;
+		this.dictionary = dictionary;
+		this.codes = codes;
+	}
+
+	/** 전체 행으로 새로 생성 (rows는 순서 무관) */
+	static RestaurantCatalogSnapshot of(List<Row> rows) {
+		List<Row> sorted = new ArrayList<>(rows);
+		sorted.sort((a, b) -> Long.compare(a.id(), b.id()));
+		Builder b = new Builder(sorted.size(), new ArrayList<>(), new HashMap<>());
+		for (Row row : sorted) b.add(row);
+		return b.build();
+	}
+
+	/**
+	 * 기존 스냅샷에 변경분을 반영한 새 스냅샷.
+	 * changedIds 중 changedRows에 없는 ID는 삭제된 것으로 본다.
+	 * 모두 기존 행의 수정이면 바뀐 페이지만 복사하고, 추가/삭제가 있으면 전체를 다시 만든다.
+	 */
+	RestaurantCatalogSnapshot withChanges(long[] changedIds, List<Row> changedRows) {
+		int[] rows = new int[changedRows.size()];
+		boolean structural = false;
+		for (int i = 0; i < rows.length; i++) {
+			rows[i] = rowOf(changedRows.get(i).id());
+			if (rows[i] < 0) structural = true;
+		}
+		if (!structural) {
+			long[] kept = changedRows.stream().mapToLong(Row::id).sorted().toArray();
+			for (long id : changedIds) {
+				if (Arrays.binarySearch(kept, id) < 0 && rowOf(id) >= 0) {
+					structural = true;
+					break;
+				}
+			}
+		}
+		if (structural) {
+			return rebuilt(changedIds, changedRows);
+		}
+
+		Patch patch = new Patch(this);
+		for (int i = 0; i < rows.length; i++) {
+			patch.write(rows[i], changedRows.get(i));
+		}
+		return patch.build();
+	}
+
+	/** 행 추가/삭제가 있을 때: 기존 행은 컬럼 값을 그대로 복사하고 변경 행은 새로 쓴다 */
+	private RestaurantCatalogSnapshot rebuilt(long[] changedIds, List<Row> changedRows) {
+		long[] removed = changedIds.clone();
+		Arrays.sort(removed);
+		List<Row> added = new ArrayList<>(changedRows);
+		added.sort((a, b) -> Long.compare(a.id(), b.id()));
+
+		// 문자열 사전은 이어서 사용 (기존 코드 유지). 쓰이지 않게 된 문자열은 전체 재생성 때 정리된다
+		Builder b = new Builder(size + added.size(), new ArrayList<>(dictionary), new HashMap<>(codes));
+
+		int a = 0;
+		for (int row = 0; row < size; row++) {
+			long id = longAt(ID, row);
+			while (a < added.size() && added.get(a).id() < id) b.add(added.get(a++));
+			if (Arrays.binarySearch(removed, id) >= 0) continue;
+			b.copy(this, row);
+		}
+		while (a < added.size()) b.add(added.get(a++));
+		return b.build();
+	}
+
+	public int size() {
+		return size;
+	}
+
+	/** id의 행 번호, 없으면 -1 */
+	public int rowOf(long id) {
+		int lo = 0, hi = size - 1;
+		while (lo <= hi) {
+			int mid = (lo + hi) >>> 1;
+			long v = longAt(ID, mid);
+			if (v < id) lo = mid + 1;
+			else if (v > id) hi = mid - 1;
+			else return mid;
+		}
+		return -1;
+	}
+
+	/** nearby 쿼리의 LEAST(100, GREATEST(0, ROUND(...)))와 같은 계산 (목표 0이면 null) */
+	public Integer fundingPercent(int row) {
+		long goal = longAt(FUNDING_GOAL_AMOUNT, row);
+		if (goal == 0) return null;
+		long p = Math.round((longAt(FUNDING_AMOUNT, row) * 100.0) / goal);
+		return (int) Math.max(0, Math.min(100, p));
+	}
+
+	/**
+	 * ids 순서대로 썸네일. lat/lng가 있으면 거리(m)도 채운다.
+	 * 스냅샷에 없는 ID가 하나라도 있으면 null (호출 측은 DB 조회로 대체)
+	 */
+	public List<RestaurantThumbView> thumbs(List<Long> ids, Double lat, Double lng) {
+		List<RestaurantThumbView> result = new ArrayList<>(ids.size());
+		for (Long id : ids) {
+			int row = rowOf(id);
+			if (row < 0) return null;
+			Double distance = lat == null || lng == null ? null
+					: GeoUtils.distanceMeters(lat, lng, doubleAt(Y, row), doubleAt(X, row));
+			result.add(new Thumb(this, row, distance));
+		}
+		return result;
+	}
+
+	private long longAt(int column, int row) {
+		return columns[column].pages[row >>> PAGE_SHIFT].getLong((row & PAGE_MASK) * Long.BYTES);
+	}
+
+	private double doubleAt(int column, int row) {
+		return Double.longBitsToDouble(longAt(column, row));
+	}
+
+	private int intAt(int column, int row) {
+		return columns[column].pages[row >>> PAGE_SHIFT].getInt((row & PAGE_MASK) * Integer.BYTES);
+	}
+
+	private String string(int column, int row) {
+		int code = intAt(column, row);
+		return code == NULL_CODE ? null : dictionary.get(code);
+	}
+
+	private Date date(int column, int row) {
+		int day = intAt(column, row);
+		return day == NULL_INT ? null : Date.valueOf(LocalDate.ofEpochDay(day));
+	}
+
+	/** 고정 폭 컬럼 하나: PAGE_ROWS행마다 direct 버퍼 페이지 하나 (읽기/쓰기는 절대 위치만 사용) */
+	private record Column(int width, ByteBuffer[] pages) {
+
+		static Column allocate(int width, int rows) {
+			ByteBuffer[] pages = new ByteBuffer[Math.max(1, (rows + PAGE_MASK) >>> PAGE_SHIFT)];
+			for (int p = 0; p < pages.length; p++) pages[p] = page(width);
+			return new Column(width, pages);
+		}
+
+		static ByteBuffer page(int width) {
+			return ByteBuffer.allocateDirect(PAGE_ROWS * width).order(ByteOrder.nativeOrder());
+		}
+
+		/** 폭에 맞춰 long 또는 int로 읽은 값 (복사/비교용) */
+		static long get(ByteBuffer[] pages, int width, int row) {
+			ByteBuffer page = pages[row >>> PAGE_SHIFT];
+			int offset = (row & PAGE_MASK) * width;
+			return width == Long.BYTES ? page.getLong(offset) : page.getInt(offset);
+		}
+
+		static void put(ByteBuffer[] pages, int width, int row, long value) {
+			ByteBuffer page = pages[row >>> PAGE_SHIFT];
+			int offset = (row & PAGE_MASK) * width;
+			if (width == Long.BYTES) page.putLong(offset, value);
+			else page.putInt(offset, (int) value);
+		}
+	}
+
+	/** 행 값을 컬럼에 쓰는 쪽 (새로 만들기 / 기존 스냅샷 수정) */
+	private abstract static class RowWriter {
+
+		abstract void put(int column, int row, long value);
+
+		abstract int intern(String value);
+
+		void write(int i, Row r) {
+			put(ID, i, r.id());
+			put(X, i, Double.doubleToRawLongBits(r.x()));
+			put(Y, i, Double.doubleToRawLongBits(r.y()));
+			put(FUNDING_AMOUNT, i, r.fundingAmount());
+			put(FUNDING_GOAL_AMOUNT, i, r.fundingGoalAmount());
+			put(TOTAL_FUNDING_AMOUNT, i, r.totalFundingAmount());
+			put(START_DAY, i, r.fundingStartDate() == null ? NULL_INT : (int) r.fundingStartDate().toEpochDay());
+			put(END_DAY, i, r.fundingEndDate() == null ? NULL_INT : (int) r.fundingEndDate().toEpochDay());
+			put(CATEGORY_ID, i, r.categoryId() == null ? 0 : r.categoryId());
+			put(IMAGE_ID, i, r.imageId() == null ? 0 : r.imageId());
+			put(IS_MAIN, i, r.isMain() == null ? -1 : r.isMain());
+			put(SORT_ORDER, i, r.sortOrder() == null ? NULL_INT : r.sortOrder());
+			put(NAME, i, intern(r.name()));
+			put(CATEGORY_NAME, i, intern(r.categoryName()));
+			put(ADDRESS, i, intern(r.roadAddressName()));
+			put(PLACE_URL, i, intern(r.placeUrl()));
+			put(IMAGE_URL, i, intern(r.imageUrl()));
+		}
+	}
+
+	/** 빈 컬럼에 id 순서대로 행을 채워 새 스냅샷 생성 */
+	private static final class Builder extends RowWriter {
+
+		private int size = 0;
+		private final Column[] columns = new Column[WIDTHS.length];
+		private final List<String> dictionary;
+		private final Map<String, Integer> codes;
+
+		private Builder(int capacity, List<String> dictionary, Map<String, Integer> codes) {
+			for (int c = 0; c < columns.length; c++) columns[c] = Column.allocate(WIDTHS[c], capacity);
+			this.dictionary = dictionary;
+			this.codes = codes;
+		}
+
+		@Override
+		void put(int column, int row, long value) {
+			Column.put(columns[column].pages(), WIDTHS[column], row, value);
+		}
+
+		@Override
+		int intern(String value) {
+			if (value == null) return NULL_CODE;
+			return codes.computeIfAbsent(value, v -> {
+				dictionary.add(v);
+				return dictionary.size() - 1;
+			});
+		}
+
+		void add(Row r) {
+			write(size++, r);
+		}
+
+		/** 같은 사전을 이어 쓰는 스냅샷의 행 복사 */
+		void copy(RestaurantCatalogSnapshot s, int row) {
+			int i = size++;
+			for (int c = 0; c < columns.length; c++) {
+				put(c, i, Column.get(s.columns[c].pages(), WIDTHS[c], row));
+			}
+		}
+
+		RestaurantCatalogSnapshot build() {
+			return new RestaurantCatalogSnapshot(size, columns, dictionary, codes);
+		}
+	}
+
+	/**
+	 * 기존 행 수정용 copy-on-write. 값이 실제로 바뀌는 (컬럼, 페이지)만 복사해 쓰고 나머지 페이지는 원본과 공유한다.
+	 * 사전도 새 문자열이 처음 나올 때만 복사한다.
+	 */
+	private static final class Patch extends RowWriter {
+
+		private final RestaurantCatalogSnapshot source;
+		private final ByteBuffer[][] pages = new ByteBuffer[WIDTHS.length][];
+		private final boolean[][] copied = new boolean[WIDTHS.length][];
+		private List<String> dictionary;
+		private Map<String, Integer> codes;
+		private boolean dictionaryCopied = false;
+
+		private Patch(RestaurantCatalogSnapshot source) {
+			this.source = source;
+			this.dictionary = source.dictionary;
+			this.codes = source.codes;
+		}
+
+		@Override
+		void put(int column, int row, long value) {
+			int width = WIDTHS[column];
+			ByteBuffer[] current = pages[column] != null ? pages[column] : source.columns[column].pages();
+			if (Column.get(current, width, row) == value) return;
+
+			if (pages[column] == null) {
+				pages[column] = current.clone();
+				copied[column] = new boolean[current.length];
+			}
+			int p = row >>> PAGE_SHIFT;
+			if (!copied[column][p]) {
+				ByteBuffer page = Column.page(width);
+				page.put(0, pages[column][p], 0, PAGE_ROWS * width);
+				pages[column][p] = page;
+				copied[column][p] = true;
+			}
+			Column.put(pages[column], width, row, value);
+		}
+
+		@Override
+		int intern(String value) {
+			if (value == null) return NULL_CODE;
+			Integer code = codes.get(value);
+			if (code != null) return code;
+			if (!dictionaryCopied) {
+				dictionary = new ArrayList<>(dictionary);
+				codes = new HashMap<>(codes);
+				dictionaryCopied = true;
+			}
+			dictionary.add(value);
+			codes.put(value, dictionary.size() - 1);
+			return dictionary.size() - 1;
+		}
+
+		RestaurantCatalogSnapshot build() {
+			Column[] columns = source.columns.clone();
+			for (int c = 0; c < columns.length; c++) {
+				if (pages[c] != null) columns[c] = new Column(WIDTHS[c], pages[c]);
+			}
+			return new RestaurantCatalogSnapshot(source.size, columns, dictionary, codes);
+		}
+	}
+
+	/** 스냅샷의 한 행을 가리키는 썸네일 (값은 getter 호출 시 버퍼에서 읽음) */
+	private static final class Thumb implements RestaurantThumbView {
+
+		private final RestaurantCatalogSnapshot s;
+		private final int row;
+		private final Double distance;
+
+		private Thumb(RestaurantCatalogSnapshot s, int row, Double distance) {
+			this.s = s;
+			this.row = row;
+			this.distance = distance;
+		}
+
+		@Override
+		public Long getRestaurantId() {
+			return s.longAt(ID, row);
+		}
+
+		@Override
+		public String getName() {
+			return s.string(NAME, row);
+		}
+
+		@Override
+		public String getRoadAddressName() {
+			return s.string(ADDRESS, row);
+		}
+
+		@Override
+		public String getPlaceUrl() {
+			return s.string(PLACE_URL, row);
+		}
+
+		@Override
+		public String getCategoryName() {
+			return s.string(CATEGORY_NAME, row);
+		}
+
+		@Override
+		public Long getCategoryId() {
+			long v = s.longAt(CATEGORY_ID, row);
+			return v == 0 ? null : v;
+		}
+
+		@Override
+		public Double getDistance() {
+			return distance;
+		}
+
+		@Override
+		public Long getFundingAmount() {
+			return s.longAt(FUNDING_AMOUNT, row);
+		}
+
+		@Override
+		public Long getFundingGoalAmount() {
+			return s.longAt(FUNDING_GOAL_AMOUNT, row);
+		}
+
+		@Override
+		public Integer getFundingPercent() {
+			return s.fundingPercent(row);
+		}
+
+		@Override
+		public Long getImageId() {
+			long v = s.longAt(IMAGE_ID, row);
+			return v == 0 ? null : v;
+		}
+
+		@Override
+		public String getImageUrl() {
+			return s.string(IMAGE_URL, row);
+		}
+
+		@Override
+		public Integer getIsMain() {
+			int v = s.intAt(IS_MAIN, row);
+			return v < 0 ? null : v;
+		}
+
+		@Override
+		public Integer getSortOrder() {
+			int v = s.intAt(SORT_ORDER, row);
+			return v == NULL_INT ? null : v;
+		}
+
+		@Override
+		public Date getFundingStartDate() {
+			return s.date(START_DAY, row);
+		}
+
+		@Override
+		public Date getFundingEndDate() {
+			return s.date(END_DAY, row);
+		}
+
+		@Override
+		public Long getTotalFundingAmount() {
+			return s.longAt(TOTAL_FUNDING_AMOUNT, row);
+		}
+	}
+}
@@ -0,0 +1,161 @@
+package com.backend.service.restaurant;
+
+import com.backend.domain.restaurant.RestaurantCategory;
+import com.backend.repository.restaurant.RestaurantCategoryRepository;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 카테고리 트리 메모리 사본.
+ * category_name 문자열을 단계별 노드 ID로 바꾸고(없으면 생성), 조상/자손 조회를 제공한다.
+ * 기동 시 category_id가 비어 있는 음식점을 채운 뒤 RestaurantGeoIndex가 적재되도록 먼저 실행된다.
+ */
+@Component
+@Log4j2
+public class RestaurantCategoryTree {
+
+	private static final String SEPARATOR = " > ";
+
+	private final RestaurantCategoryRepository categoryRepository;
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate newTransaction;
+
+	private final ConcurrentHashMap<String, Node> byPath = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<Long, Node> byId = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<Long, Set<Long>> children = new ConcurrentHashMap<>();
+
+	/** ancestors: 최상위부터 자기 자신까지의 ID */
+	public record Node(long id, Long parentId, int depth, String name, String path, long[] ancestors) {
+	}
+
+	public RestaurantCategoryTree(RestaurantCategoryRepository categoryRepository,
+								  JdbcTemplate jdbcTemplate,
+								  PlatformTransactionManager transactionManager) {
+		this.categoryRepository = categoryRepository;
+		this.jdbcTemplate = jdbcTemplate;
+		// 노드 생성은 호출 측 트랜잭션이 롤백돼도 남도록 별도 트랜잭션으로 (메모리 사본과 DB 불일치 방지)
+		this.newTransaction = new TransactionTemplate(transactionManager);
+		this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Order(1)
+	public void load() {
+		List<RestaurantCategory> all = categoryRepository.findAll();
+		all.sort((a, b) -> Integer.compare(a.getDepth(), b.getDepth()));
+		for (RestaurantCategory c : all) {
+			register(c);
+		}
+
+		// category_id가 없는 음식점 백필 (CSV 적재분 등)
+		List<String> names = jdbcTemplate.queryForList(
+				"SELECT DISTINCT category_name FROM restaurant WHERE category_id IS NULL AND category_name IS NOT NULL",
+				String.class);
+		List<Object[]> updates = new ArrayList<>();
+		for (String name : names) {
+			Long leaf = resolve(name);
+			if (leaf != null) updates.add(new Object[]{leaf, name});
+		}
+		if (!updates.isEmpty()) {
+			jdbcTemplate.batchUpdate(
+					"UPDATE restaurant SET category_id = ? WHERE category_name = ? AND category_id IS NULL",
+					updates);
+		}
+		log.info("Loaded restaurant category tree: {} nodes, backfilled {} category names", byId.size(), updates.size());
+	}
+
+	/** category_name → 최하위 카테고리 ID. 비어 있으면 null */
+	public Long resolve(String categoryName) {
+		List<String> parts = split(categoryName);
+		if (parts.isEmpty()) return null;
+
+		Node parent = null;
+		StringBuilder path = new StringBuilder();
+		for (int depth = 0; depth < parts.size(); depth++) {
+			if (depth > 0) path.append(SEPARATOR);
+			path.append(parts.get(depth));
+			Node node = byPath.get(path.toString());
+			if (node == null) {
+				node = create(path.toString(), parts.get(depth), parent, depth);
+			}
+			parent = node;
+		}
+		return parent.id();
+	}
+
+	public Node get(long id) {
+		return byId.get(id);
+	}
+
+	public Collection<Node> nodes() {
+		return byId.values();
+	}
+
+	/** 자기 자신 포함 모든 하위 카테고리 ID */
+	public Set<Long> descendantsOf(long id) {
+		Set<Long> result = new HashSet<>();
+		if (!byId.containsKey(id)) return result;
+		List<Long> stack = new ArrayList<>(List.of(id));
+		while (!stack.isEmpty()) {
+			long current = stack.remove(stack.size() - 1);
+			if (result.add(current)) {
+				stack.addAll(children.getOrDefault(current, Set.of()));
+			}
+		}
+		return result;
+	}
+
+	private synchronized Node create(String path, String name, Node parent, int depth) {
+		Node existing = byPath.get(path);
+		if (existing != null) return existing;
+
+		RestaurantCategory saved = newTransaction.execute(status -> categoryRepository.save(RestaurantCategory.builder()
+				.parentId(parent == null ? null : parent.id())
+				.depth(depth)
+				.name(name)
+				.path(path)
+				.build()));
+		return register(saved);
+	}
+
+	private Node register(RestaurantCategory c) {
+		Node parent = c.getParentId() == null ? null : byId.get(c.getParentId());
+		long[] ancestors = parent == null ? new long[]{c.getId()} : append(parent.ancestors(), c.getId());
+		Node node = new Node(c.getId(), c.getParentId(), c.getDepth(), c.getName(), c.getPath(), ancestors);
+		byId.put(node.id(), node);
+		byPath.put(node.path(), node);
+		if (node.parentId() != null) {
+			children.computeIfAbsent(node.parentId(), k -> ConcurrentHashMap.newKeySet()).add(node.id());
+		}
+		return node;
+	}
+
+	private static long[] append(long[] prefix, long id) {
+		long[] result = Arrays.copyOf(prefix, prefix.length + 1);
+		result[prefix.length] = id;
+		return result;
+	}
+
+	private static List<String> split(String categoryName) {
+		if (categoryName == null) return List.of();
+		return Arrays.stream(categoryName.split(">"))
+				.map(String::trim)
+				.filter(s -> !s.isEmpty())
+				.toList();
+	}
+}
@@ -0,0 +1,142 @@
+package com.backend.service.restaurant;
+
+import com.backend.dto.restaurant.RestaurantClusterDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 지도 축소 화면용 서버 클러스터링.
+ * 줌 레벨마다 격자 셀 집계(개수, 무게중심, 평균 펀딩률)를 RestaurantGeoIndex에서 한 번 계산해 캐시하고,
+ * 요청은 bbox와 겹치는 셀만 잘라서 돌려준다. 인덱스 version이 바뀌면 해당 줌 집계를 다시 만든다.
+ * 펀딩률은 목록 API와 같은 RestaurantCatalog 스냅샷에서 읽으므로, 펀딩 금액 기록으로 스냅샷이 바뀌어도 다시 만든다.
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class RestaurantClusterService {
+
+	public static final int MIN_ZOOM = 0;
+	public static final int MAX_ZOOM = 21;
+
+	// 256px 타일 하나를 4x4 셀로 나눔 (셀 하나 = 약 64px)
+	private static final int CELLS_PER_TILE = 4;
+
+	private final RestaurantGeoIndex restaurantGeoIndex;
+	private final RestaurantCatalog restaurantCatalog;
+
+	private final Map<Integer, ZoomLayer> layers = new ConcurrentHashMap<>();
+
+	private record ZoomLayer(long version, RestaurantCatalogSnapshot catalog, double cellDegrees, Map<Long, Cell> cells) {
+	}
+
+	private static final class Cell {
+		int row, col, count, percentCount;
+		double sumLat, sumLng;
+		long percentSum;
+		long firstId;
+	}
+
+	/**
+	 * @param minLng,minLat,maxLng,maxLat 화면 영역
+	 * @param zoom 웹 지도 표준 줌(0~21, 클수록 확대)
+	 */
+	public List<RestaurantClusterDTO> getClusters(double minLng, double minLat, double maxLng, double maxLat, int zoom) {
+		if (minLat > maxLat || minLng > maxLng) {
+			throw new IllegalArgumentException("bbox must be minLng,minLat,maxLng,maxLat");
+		}
+		if (!restaurantGeoIndex.isReady()) {
+			log.warn("geo index not ready, returning no clusters");
+			return List.of();
+		}
+		ZoomLayer layer = layer(Math.max(MIN_ZOOM, Math.min(MAX_ZOOM, zoom)));
+
+		int r0 = row(minLat, layer.cellDegrees()), r1 = row(maxLat, layer.cellDegrees());
+		int c0 = col(minLng, layer.cellDegrees()), c1 = col(maxLng, layer.cellDegrees());
+		long boxCells = (long) (r1 - r0 + 1) * (c1 - c0 + 1);
+
+		List<RestaurantClusterDTO> result = new ArrayList<>();
+		if (boxCells > layer.cells().size()) {
+			for (Cell cell : layer.cells().values()) {
+				if (cell.row >= r0 && cell.row <= r1 && cell.col >= c0 && cell.col <= c1) {
+					result.add(toDTO(cell));
+				}
+			}
+		} else {
+			for (int r = r0; r <= r1; r++) {
+				for (int c = c0; c <= c1; c++) {
+					Cell cell = layer.cells().get(key(r, c));
+					if (cell != null) result.add(toDTO(cell));
+				}
+			}
+		}
+		return result;
+	}
+
+	private ZoomLayer layer(int zoom) {
+		long version = restaurantGeoIndex.version();
+		RestaurantCatalogSnapshot catalog = restaurantCatalog.snapshot();
+		ZoomLayer layer = layers.get(zoom);
+		if (layer != null && layer.version() == version && layer.catalog() == catalog) {
+			return layer;
+		}
+		layer = build(zoom, version, catalog);
+		layers.put(zoom, layer);
+		return layer;
+	}
+
+	private ZoomLayer build(int zoom, long version, RestaurantCatalogSnapshot catalog) {
+		double cellDegrees = 360.0 / (1L << zoom) / CELLS_PER_TILE;
+		Map<Long, Cell> cells = new HashMap<>();
+		restaurantGeoIndex.forEachPoint(p -> {
+			int r = row(p.lat(), cellDegrees), c = col(p.lng(), cellDegrees);
+			Cell cell = cells.computeIfAbsent(key(r, c), k -> {
+				Cell created = new Cell();
+				created.row = r;
+				created.col = c;
+				created.firstId = p.id();
+				return created;
+			});
+			cell.count++;
+			cell.sumLat += p.lat();
+			cell.sumLng += p.lng();
+			// 스냅샷이 아직 없거나 스냅샷에 없는 음식점만 인덱스의 (적재 시점) 값 사용
+			int row = catalog == null ? -1 : catalog.rowOf(p.id());
+			Integer percent = row < 0 ? p.fundingPercent() : catalog.fundingPercent(row);
+			if (percent != null) {
+				cell.percentSum += percent;
+				cell.percentCount++;
+			}
+		});
+		log.debug("Built cluster layer zoom={}, cells={}", zoom, cells.size());
+		return new ZoomLayer(version, catalog, cellDegrees, Map.copyOf(cells));
+	}
+
+	private static RestaurantClusterDTO toDTO(Cell cell) {
+		return RestaurantClusterDTO.builder()
+				.lat(cell.sumLat / cell.count)
+				.lng(cell.sumLng / cell.count)
+				.count(cell.count)
+				.avgFundingPercent(cell.percentCount == 0 ? null : (int) Math.round((double) cell.percentSum / cell.percentCount))
+				.restaurantId(cell.count == 1 ? cell.firstId : null)
+				.build();
+	}
+
+	private static int row(double lat, double cellDegrees) {
+		return (int) Math.floor((lat + 90.0) / cellDegrees);
+	}
+
+	private static int col(double lng, double cellDegrees) {
+		return (int) Math.floor((lng + 180.0) / cellDegrees);
+	}
+
+	private static long key(int row, int col) {
+		return ((long) row << 32) | (col & 0xffffffffL);
+	}
+}
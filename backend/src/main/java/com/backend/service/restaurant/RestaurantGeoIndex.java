@@ -0,0 +1,214 @@
+package com.backend.service.restaurant;
+
+import com.backend.domain.restaurant.Restaurant;
+import com.backend.dto.restaurant.RestaurantPointView;
+import com.backend.repository.restaurant.RestaurantRepository;
+import com.backend.util.GeoGrid;
+import com.backend.util.GeoUtils;
+import com.backend.util.HaversineKernel;
+import com.backend.util.HaversineKernels;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.LongPredicate;
+import java.util.function.ObjDoubleConsumer;
+
+/**
+ * 음식점 좌표 메모리 격자 인덱스.
+ * nearby 검색 시 반경 안의 후보 ID를 골라 DB는 해당 행만 조회하도록 한다.
+ * 기동 완료 전(적재 전)에는 isReady()가 false이며 호출 측은 DB 쿼리로 대체한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class RestaurantGeoIndex {
+
+	private static final double CELL_DEGREES = 0.01; // 약 1.1km 격자
+	private static final HaversineKernel DISTANCE_KERNEL = HaversineKernels.best();
+
+	private final RestaurantRepository restaurantRepository;
+
+	private final GeoGrid<Point> grid = new GeoGrid<>(CELL_DEGREES);
+	private final AtomicLong version = new AtomicLong();
+	private volatile boolean ready = false;
+
+	public record Point(long id, double lat, double lng, long fundingAmount, long fundingGoalAmount, long categoryId) {
+
+		/** 0~100 (목표 0이면 null) - nearby 쿼리의 fundingPercent와 같은 계산 */
+		public Integer fundingPercent() {
+			if (fundingGoalAmount <= 0) return null;
+			long p = Math.round((fundingAmount * 100.0) / fundingGoalAmount);
+			return (int) Math.max(0, Math.min(100, p));
+		}
+	}
+
+	public record Candidate(long id, double distance) {
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional(readOnly = true)
+	public void load() {
+		List<RestaurantPointView> points = restaurantRepository.findAllPoints();
+		grid.clear();
+		for (RestaurantPointView p : points) {
+			put(p.getId(), p.getY(), p.getX(), p.getFundingAmount(), p.getFundingGoalAmount(), p.getCategoryId());
+		}
+		version.incrementAndGet();
+		ready = true;
+		log.info("Loaded restaurant geo index: {} points, distance kernel={}", grid.size(), DISTANCE_KERNEL.name());
+	}
+
+	public boolean isReady() {
+		return ready;
+	}
+
+	/** put/remove/load 때마다 증가 (클러스터 캐시 무효화 판단용) */
+	public long version() {
+		return version.get();
+	}
+
+	public void put(Restaurant restaurant) {
+		put(restaurant.getId(), restaurant.getY(), restaurant.getX(),
+				restaurant.getFundingAmount(), restaurant.getFundingGoalAmount(), restaurant.getCategoryId());
+		version.incrementAndGet();
+	}
+
+	private void put(Long id, Double lat, Double lng, Long fundingAmount, Long fundingGoalAmount, Long categoryId) {
+		if (id == null || lat == null || lng == null) return;
+		grid.put(id, lat, lng, new Point(id, lat, lng,
+				fundingAmount == null ? 0 : fundingAmount,
+				fundingGoalAmount == null ? 0 : fundingGoalAmount,
+				categoryId == null ? 0 : categoryId));
+	}
+
+	public void remove(Long id) {
+		if (id == null) return;
+		grid.remove(id);
+		version.incrementAndGet();
+	}
+
+	public Point get(Long id) {
+		return id == null ? null : grid.get(id);
+	}
+
+	public void forEachPoint(Consumer<Point> action) {
+		grid.forEach(action);
+	}
+
+	/** 반경(m) 안의 음식점을 거리, ID 순으로 반환 */
+	public List<Candidate> findWithin(double lat, double lng, double radius) {
+		return findWithin(lat, lng, radius, null);
+	}
+
+	/** categoryFilter: 최하위 카테고리 ID 조건 (null이면 전체, 카테고리 없는 음식점은 0) */
+	public List<Candidate> findWithin(double lat, double lng, double radius, LongPredicate categoryFilter) {
+		List<Candidate> result = new ArrayList<>();
+		forEachWithin(lat, lng, radius, (p, d) -> {
+			if (categoryFilter == null || categoryFilter.test(p.categoryId())) {
+				result.add(new Candidate(p.id(), d));
+			}
+		});
+		result.sort(Comparator.comparingDouble(Candidate::distance).thenComparingLong(Candidate::id));
+		return result;
+	}
+
+	/**
+	 * 반경(m) 안에서 커서 뒤에 오는 음식점 중 거리, ID 순으로 앞의 limit개.
+	 * 전체 후보를 정렬하지 않고 커서로 먼저 거른 뒤 크기 limit의 최대 힙만 유지한다.
+	 */
+	public List<Candidate> findWithinAfter(double lat, double lng, double radius, NearbyCursor after, int limit) {
+		Comparator<Candidate> order = Comparator.comparingDouble(Candidate::distance).thenComparingLong(Candidate::id);
+		PriorityQueue<Candidate> heap = new PriorityQueue<>(limit + 1, order.reversed());
+		forEachWithin(lat, lng, radius, (p, d) -> {
+			if (!after.isBefore(d, p.id())) return;
+			if (heap.size() == limit) {
+				Candidate worst = heap.peek();
+				int c = Double.compare(d, worst.distance());
+				if (c > 0 || (c == 0 && p.id() > worst.id())) return;
+			}
+			heap.offer(new Candidate(p.id(), d));
+			if (heap.size() > limit) heap.poll();
+		});
+
+		List<Candidate> result = new ArrayList<>(heap);
+		result.sort(order);
+		return result;
+	}
+
+	/** 반경(m) 안의 음식점과 거리를 순서 없이 순회 */
+	public void forEachWithin(double lat, double lng, double radius, ObjDoubleConsumer<Point> action) {
+		double dLat = GeoUtils.latDegrees(radius);
+		double dLng = GeoUtils.lngDegrees(radius, lat);
+
+		// 격자에서 고른 후보의 좌표를 배열로 모아 거리를 한 번에 계산
+		List<Point> box = new ArrayList<>();
+		grid.forEachInBox(lat - dLat, lat + dLat, lng - dLng, lng + dLng, box::add);
+		int n = box.size();
+		double[] lats = new double[n], lngs = new double[n], distances = new double[n];
+		for (int i = 0; i < n; i++) {
+			lats[i] = box.get(i).lat();
+			lngs[i] = box.get(i).lng();
+		}
+		DISTANCE_KERNEL.distances(lat, lng, lats, lngs, n, distances);
+
+		for (int i = 0; i < n; i++) {
+			if (distances[i] <= radius) {
+				action.accept(box.get(i), distances[i]);
+			}
+		}
+	}
+
+	/**
+	 * 가장 가까운 k개를 거리, ID 순으로 반환 (반경 지정 없음).
+	 * 중심 셀부터 한 겹씩 바깥 셀을 넓혀 가며 크기 k의 최대 힙을 채우고,
+	 * 아직 안 본 셀까지의 최소 거리가 힙의 최댓값 이상이 되면 멈춘다.
+	 */
+	public List<Candidate> findNearest(double lat, double lng, int k) {
+		Comparator<Candidate> order = Comparator.comparingDouble(Candidate::distance).thenComparingLong(Candidate::id);
+		PriorityQueue<Candidate> heap = new PriorityQueue<>(k + 1, order.reversed());
+		Consumer<Point> offer = p -> {
+			heap.offer(new Candidate(p.id(), GeoUtils.distanceMeters(lat, lng, p.lat(), p.lng())));
+			if (heap.size() > k) heap.poll();
+		};
+
+		int row = grid.row(lat), col = grid.col(lng);
+		int total = grid.size();
+		int[] seen = {0};
+		for (int ring = 0; ; ring++) {
+			// 테두리 셀 수가 실제 사용 중인 셀 수보다 많아지면(데이터가 희박한 곳) 전체를 한 번 훑고 끝낸다
+			if (8L * ring > grid.cellCount()) {
+				heap.clear();
+				grid.forEach(offer);
+				break;
+			}
+			grid.forEachInRing(row, col, ring, p -> {
+				seen[0]++;
+				offer.accept(p);
+			});
+			if (seen[0] >= total) break;
+			if (heap.size() == k && heap.peek().distance() <= ring * minCellMeters(lat, ring)) break;
+		}
+
+		List<Candidate> result = new ArrayList<>(heap);
+		result.sort(order);
+		return result;
+	}
+
+	// ring 겹까지 본 뒤 남은 셀까지의 최소 거리 계산용: 셀 한 칸의 최소 변 길이(m)
+	private static double minCellMeters(double lat, int ring) {
+		double farLat = Math.min(90.0, Math.abs(lat) + (ring + 1) * CELL_DEGREES);
+		double latMeters = CELL_DEGREES * GeoUtils.metersPerDegree();
+		double lngMeters = latMeters * Math.cos(Math.toRadians(farLat));
+		return Math.min(latMeters, lngMeters);
+	}
+}
@@ -0,0 +1,201 @@
+package com.backend.service.restaurant;
+
+import com.backend.event.RestaurantChangedEvent;
+import com.backend.util.GeoUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 음식점 이름/카테고리/태그 글자 n-gram(1~3글자) 역색인.
+ * LIKE '%키워드%' 전체 스캔 대신 검색어의 n-gram 목록에 걸린 음식점만 점수를 매긴다.
+ * 기동 시 전체를 적재하고, RestaurantChangedEvent(승인/수정) 때 해당 음식점만 다시 색인한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class RestaurantSearchIndex {
+
+	private static final int MAX_GRAM = 3;
+
+	// 필드별 가중치 (비트 위치 = 필드)
+	private static final int NAME = 1, CATEGORY = 2, TAGS = 4;
+	private static final double NAME_WEIGHT = 3.0, CATEGORY_WEIGHT = 1.0, TAGS_WEIGHT = 1.5;
+
+	private static final double PHRASE_BONUS = 2.0;    // 이름에 검색어가 통째로 포함
+	private static final double PREFIX_BONUS = 1.0;    // 이름이 검색어로 시작
+	private static final double DISTANCE_WEIGHT = 2.0; // 1km에서 절반이 되는 거리 가산점
+	private static final double MIN_COVERAGE = 0.6;    // 검색어 n-gram 중 이 비율 이상 일치해야 후보 (오타 허용)
+
+	private static final String SELECT_DOCS = """
+			SELECT r.id, r.name, r.category_name, r.x, r.y, d.tags
+			FROM restaurant r
+			LEFT JOIN restaurant_detail d ON d.id = r.id
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	// n-gram → (음식점 ID → 그 n-gram이 나온 필드 비트)
+	private final ConcurrentHashMap<String, ConcurrentHashMap<Long, Integer>> postings = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<Long, Doc> docs = new ConcurrentHashMap<>();
+	private volatile boolean ready = false;
+
+	private record Doc(long id, String name, Double lat, Double lng, Map<String, Integer> grams) {
+	}
+
+	public record Hit(long id, double score) {
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void load() {
+		postings.clear();
+		docs.clear();
+		jdbcTemplate.query(SELECT_DOCS, (RowCallbackHandler) this::indexRow);
+		ready = true;
+		log.info("Loaded restaurant search index: {} restaurants, {} grams", docs.size(), postings.size());
+	}
+
+	public boolean isReady() {
+		return ready;
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onRestaurantChanged(RestaurantChangedEvent event) {
+		reindex(event.restaurantId());
+	}
+
+	public void reindex(Long id) {
+		if (id == null) return;
+		remove(id);
+		jdbcTemplate.query(SELECT_DOCS + " WHERE r.id = ?", (RowCallbackHandler) this::indexRow, id);
+	}
+
+	/**
+	 * 점수 순 상위 limit개. lat/lng가 있으면 가까울수록 가산점.
+	 * 점수 = Σ(일치한 n-gram의 필드 가중치) / n-gram 수 + 이름 일치 보너스 + 거리 가산점
+	 */
+	public List<Hit> search(String query, Double lat, Double lng, int limit) {
+		String q = normalize(query);
+		if (q.isEmpty()) return List.of();
+
+		// 검색어 길이만큼의 n-gram이 가장 변별력이 높다 (최대 3글자)
+		int n = Math.min(MAX_GRAM, q.length());
+		List<String> queryGrams = new ArrayList<>(new HashSet<>(grams(q, n)));
+
+		Map<Long, double[]> scores = new HashMap<>(); // [가중치 합, 일치 n-gram 수]
+		for (String g : queryGrams) {
+			Map<Long, Integer> posting = postings.get(g);
+			if (posting == null) continue;
+			posting.forEach((id, fields) -> {
+				double[] s = scores.computeIfAbsent(id, k -> new double[2]);
+				s[0] += fieldWeight(fields);
+				s[1] += 1;
+			});
+		}
+
+		int required = queryGrams.size() <= 2 ? queryGrams.size() : (int) Math.ceil(queryGrams.size() * MIN_COVERAGE);
+		PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, Comparator.comparingDouble(Hit::score));
+		scores.forEach((id, s) -> {
+			if (s[1] < required) return;
+			Doc doc = docs.get(id);
+			if (doc == null) return;
+
+			double score = s[0] / queryGrams.size();
+			if (doc.name().contains(q)) score += PHRASE_BONUS;
+			if (doc.name().startsWith(q)) score += PREFIX_BONUS;
+			if (lat != null && lng != null && doc.lat() != null && doc.lng() != null) {
+				double km = GeoUtils.distanceMeters(lat, lng, doc.lat(), doc.lng()) / 1000.0;
+				score += DISTANCE_WEIGHT / (1.0 + km);
+			}
+			top.offer(new Hit(id, score));
+			if (top.size() > limit) top.poll();
+		});
+
+		List<Hit> result = new ArrayList<>(top);
+		result.sort(Comparator.comparingDouble(Hit::score).reversed().thenComparingLong(Hit::id));
+		return result;
+	}
+
+	private void indexRow(ResultSet rs) throws SQLException {
+		index(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(6),
+				rs.getObject(5, Double.class), rs.getObject(4, Double.class));
+	}
+
+	private void index(long id, String name, String category, String tags, Double lat, Double lng) {
+		Map<String, Integer> grams = new HashMap<>();
+		addGrams(grams, normalize(name), NAME);
+		// 카테고리는 "음식점 > 한식 > 찌개,전골" 단계별로, 태그는 콤마별로 나눠서 경계를 넘는 n-gram을 만들지 않는다
+		if (category != null) {
+			for (String part : category.split("[>,]")) addGrams(grams, normalize(part), CATEGORY);
+		}
+		if (tags != null) {
+			for (String tag : tags.split(",")) addGrams(grams, normalize(tag), TAGS);
+		}
+
+		docs.put(id, new Doc(id, normalize(name), lat, lng, grams));
+		grams.forEach((g, fields) ->
+				postings.computeIfAbsent(g, k -> new ConcurrentHashMap<>()).merge(id, fields, (a, b) -> a | b));
+	}
+
+	private void remove(long id) {
+		Doc doc = docs.remove(id);
+		if (doc == null) return;
+		for (String g : doc.grams().keySet()) {
+			postings.computeIfPresent(g, (k, posting) -> {
+				posting.remove(id);
+				return posting.isEmpty() ? null : posting;
+			});
+		}
+	}
+
+	private static void addGrams(Map<String, Integer> target, String text, int field) {
+		for (int n = 1; n <= MAX_GRAM; n++) {
+			for (String g : grams(text, n)) {
+				target.merge(g, field, (a, b) -> a | b);
+			}
+		}
+	}
+
+	private static List<String> grams(String text, int n) {
+		List<String> result = new ArrayList<>();
+		for (int i = 0; i + n <= text.length(); i++) {
+			result.add(text.substring(i, i + n));
+		}
+		return result;
+	}
+
+	private static double fieldWeight(int fields) {
+		double w = 0;
+		if ((fields & NAME) != 0) w += NAME_WEIGHT;
+		if ((fields & CATEGORY) != 0) w += CATEGORY_WEIGHT;
+		if ((fields & TAGS) != 0) w += TAGS_WEIGHT;
+		return w;
+	}
+
+	/** 소문자 + 공백 제거 ("김밥 천국" == "김밥천국") */
+	static String normalize(String text) {
+		if (text == null) return "";
+		StringBuilder sb = new StringBuilder(text.length());
+		text.toLowerCase().codePoints()
+				.filter(c -> !Character.isWhitespace(c))
+				.forEach(sb::appendCodePoint);
+		return sb.toString();
+	}
+}
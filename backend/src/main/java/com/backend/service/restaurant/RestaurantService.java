@@ -1,15 +1,28 @@
 package com.backend.service.restaurant;
 
+import com.backend.dto.common.CursorSliceDTO;
+import com.backend.dto.restaurant.CategoryFacetsDTO;
 import com.backend.dto.restaurant.RestaurantDTO;
 import com.backend.dto.restaurant.RestaurantThumbView;
 import org.springframework.data.domain.Page;
 import com.backend.dto.restaurant.MenuDTO;
+import java.util.Collection;
 import java.util.List;
 
 public interface RestaurantService {
-	Page<RestaurantThumbView> getNearby(double lat, double lng, double radius, int page, int size);
+	Page<RestaurantThumbView> getNearby(double lat, double lng, double radius, Long categoryId, int page, int size);
+
+	CategoryFacetsDTO getNearbyFacets(double lat, double lng, double radius);
+
+	CursorSliceDTO<RestaurantThumbView> getNearbySlice(double lat, double lng, double radius, String cursor, int size);
+
+	List<RestaurantThumbView> getNearest(double lat, double lng, int k);
+
+	List<RestaurantThumbView> search(String q, Double lat, Double lng, int size);
 
 	RestaurantDTO getDetail(Long id);
 
+	List<RestaurantThumbView> getThumbs(Collection<Long> ids);
+
 	List<MenuDTO> getMenus(Long restaurantId);
 }
@@ -1,17 +1,38 @@
 package com.backend.service.restaurant;
 
+import com.backend.dto.common.CursorSliceDTO;
+import com.backend.dto.restaurant.CategoryFacetDTO;
+import com.backend.dto.restaurant.CategoryFacetsDTO;
 import com.backend.dto.restaurant.RestaurantDTO;
+import com.backend.dto.restaurant.RestaurantDetailRowView;
 import com.backend.dto.restaurant.RestaurantThumbView;
-import com.backend.repository.restaurant.RestaurantDetailRepository;
+import com.backend.event.FundingProgressFlushedEvent;
+import com.backend.event.RestaurantChangedEvent;
 import com.backend.repository.restaurant.RestaurantRepository;
+import com.backend.service.member.FundingProgressService;
+import com.backend.util.GeoUtils;
+import com.backend.util.LruTtlCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 import com.backend.repository.restaurant.MenuRepository;
 import com.backend.dto.restaurant.MenuDTO;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -19,77 +40,300 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class RestaurantServiceImpl implements RestaurantService {
 
+	private static final int MAX_BATCH_IDS = 500;
+	private static final int MAX_NEAREST = 100;
+	private static final int MAX_SEARCH = 50;
+	private static final double NEAREST_MAX_RADIUS = 20_000_000; // 지구 반 바퀴(m)
+
 	private final RestaurantRepository restaurantRepository;
-	private final RestaurantDetailRepository restaurantDetailRepository;
 	private final MenuRepository menuRepository;
+	private final RestaurantGeoIndex restaurantGeoIndex;
+	private final NearbyResponseCache nearbyResponseCache;
+	private final RestaurantCategoryTree restaurantCategoryTree;
+	private final RestaurantSearchIndex restaurantSearchIndex;
+	private final RestaurantCatalog restaurantCatalog;
+	private final FundingProgressService fundingProgressService;
+
+	// 상세 조회 결과 캐시 (짧은 TTL + 음식점/펀딩 변경 이벤트 시 해당 ID만 제거)
+	private final LruTtlCache<Long, RestaurantDTO> detailCache = new LruTtlCache<>(1000, 10_000);
 
 	@Override
-	public Page<RestaurantThumbView> getNearby(double lat, double lng, double radius, int page, int size) {
+	public Page<RestaurantThumbView> getNearby(double lat, double lng, double radius, Long categoryId, int page, int size) {
 		validate(lat, lng, radius);
-		log.debug("Searching restaurants near lat={}, lng={}, radius={}m, page={}, size={}",
-				lat, lng, radius, page, size);
+		log.debug("Searching restaurants near lat={}, lng={}, radius={}m, categoryId={}, page={}, size={}",
+				lat, lng, radius, categoryId, page, size);
+
+		// 근처 좌표 요청끼리 결과를 공유하도록 양자화된 좌표/반경으로 조회
+		NearbyResponseCache.Key key = NearbyResponseCache.key(lat, lng, radius, categoryId, page, size);
+		Pageable pageable = PageRequest.of(page, size);
+		return nearbyResponseCache.restaurants(key, () -> searchNearby(key.lat(), key.lng(), key.radius(), categoryId, pageable));
+	}
+
+	private Page<RestaurantThumbView> searchNearby(double lat, double lng, double radius, Long categoryId, Pageable pageable) {
+		// 선택한 카테고리와 그 하위 전체 (문자열 비교 없이 ID 집합으로 거름)
+		Set<Long> categoryIds = categoryId == null ? null : restaurantCategoryTree.descendantsOf(categoryId);
+		if (categoryIds != null && categoryIds.isEmpty()) {
+			return Page.empty(pageable);
+		}
+
+		if (!restaurantGeoIndex.isReady()) {
+			String bbox = GeoUtils.boundingBoxWkt(lat, lng, radius);
+			return categoryIds == null
+					? restaurantRepository.findNearbyThumbs(lat, lng, radius, bbox, pageable)
+					: restaurantRepository.findNearbyThumbsInCategories(lat, lng, radius, bbox, categoryIds, pageable);
+		}
+
+		// 메모리 인덱스로 반경 내 후보를 정렬해 두고, 현재 페이지에 해당하는 행만 DB에서 채운다
+		List<RestaurantGeoIndex.Candidate> candidates = restaurantGeoIndex.findWithin(lat, lng, radius,
+				categoryIds == null ? null : categoryIds::contains);
+		int from = (int) Math.min(pageable.getOffset(), candidates.size());
+		int to = Math.min(from + pageable.getPageSize(), candidates.size());
+		List<Long> ids = candidates.subList(from, to).stream()
+				.map(RestaurantGeoIndex.Candidate::id)
+				.collect(Collectors.toList());
 
-		return restaurantRepository.findNearbyThumbs(
-				lat, lng, radius, PageRequest.of(page, size)
-		);
+		return new PageImpl<>(hydrateThumbs(lat, lng, ids), pageable, candidates.size());
 	}
 
 	@Override
-	public RestaurantDTO getDetail(Long id) {
-		return restaurantRepository.findDetailRowAsArray(id)
-				.map(cols -> {
-					Long rid = ((Number) cols[0]).longValue();
-					String name = (String) cols[1];
-					String categoryName = (String) cols[2];
-					String phone = (String) cols[3];
-					String roadAddressName = (String) cols[4];
-					Double x = cols[5] == null ? null : ((Number) cols[5]).doubleValue();
-					Double y = cols[6] == null ? null : ((Number) cols[6]).doubleValue();
-					String placeUrl = (String) cols[7];
-					Long fundingAmount = cols[8] == null ? null : ((Number) cols[8]).longValue();
-					Long fundingGoalAmount = cols[9] == null ? null : ((Number) cols[9]).longValue();
-					String imageUrl = (String) cols[10];
-
-					Integer percent = null;
-					if (fundingGoalAmount != null && fundingGoalAmount > 0 && fundingAmount != null) {
-						long p = Math.round((fundingAmount * 100.0) / fundingGoalAmount);
-						if (p < 0) p = 0;
-						if (p > 100) p = 100;
-						percent = (int) p;
-					}
-
-					var extended = restaurantDetailRepository.findById(id).orElse(null);
-					var restaurant = restaurantRepository.findById(id).orElse(null);
-
-					return RestaurantDTO.builder()
-							.id(rid)
-							.name(name)
-							.categoryName(categoryName)
-							.phone(phone)
-							.roadAddressName(roadAddressName)
-							.x(x)
-							.y(y)
-							.placeUrl(placeUrl)
-							.fundingAmount(fundingAmount)
-							.fundingGoalAmount(fundingGoalAmount)
-							.fundingPercent(percent)
-							.imageUrl(imageUrl)
-							.description(extended != null ? extended.getDescription() : null)
-							.businessHours(extended != null ? extended.getBusinessHours() : null)
-							.priceRange(extended != null ? extended.getPriceRange() : null)
-							.tags(extended != null ? extended.getTags() : null)
-							.homepageUrl(extended != null ? extended.getHomepageUrl() : null)
-							.instagramUrl(extended != null ? extended.getInstagramUrl() : null)
-							.notice(extended != null ? extended.getNotice() : null)
-							.fundingStartDate(restaurant != null && restaurant.getFundingStartDate() != null ? restaurant.getFundingStartDate().toString() : null)
-							.fundingEndDate(restaurant != null && restaurant.getFundingEndDate() != null ? restaurant.getFundingEndDate().toString() : null)
+	public CategoryFacetsDTO getNearbyFacets(double lat, double lng, double radius) {
+		validate(lat, lng, radius);
+
+		// 음식점마다 최하위 카테고리의 조상 전체에 1씩 더한다 (GROUP BY 없이 메모리에서 집계)
+		Map<Long, Long> leafCounts = new HashMap<>();
+		long[] total = {0};
+		if (restaurantGeoIndex.isReady()) {
+			restaurantGeoIndex.forEachWithin(lat, lng, radius, (p, d) -> {
+				total[0]++;
+				if (p.categoryId() != 0) leafCounts.merge(p.categoryId(), 1L, Long::sum);
+			});
+		} else {
+			for (Long c : restaurantRepository.findNearbyCategoryIds(lat, lng, radius, GeoUtils.boundingBoxWkt(lat, lng, radius))) {
+				total[0]++;
+				if (c != null) leafCounts.merge(c, 1L, Long::sum);
+			}
+		}
+
+		Map<Long, Long> counts = new HashMap<>();
+		List<Long> levelTotals = new ArrayList<>();
+		leafCounts.forEach((leaf, n) -> {
+			RestaurantCategoryTree.Node node = restaurantCategoryTree.get(leaf);
+			if (node == null) return;
+			long[] ancestors = node.ancestors();
+			for (int depth = 0; depth < ancestors.length; depth++) {
+				counts.merge(ancestors[depth], n, Long::sum);
+				while (levelTotals.size() <= depth) levelTotals.add(0L);
+				levelTotals.set(depth, levelTotals.get(depth) + n);
+			}
+		});
+
+		List<CategoryFacetDTO> facets = counts.entrySet().stream()
+				.map(e -> {
+					RestaurantCategoryTree.Node node = restaurantCategoryTree.get(e.getKey());
+					return CategoryFacetDTO.builder()
+							.id(node.id())
+							.parentId(node.parentId())
+							.depth(node.depth())
+							.name(node.name())
+							.count(e.getValue())
 							.build();
 				})
-				.orElseThrow(() -> new IllegalArgumentException("Restaurant not found: " + id));
+				.sorted(Comparator.comparingInt(CategoryFacetDTO::getDepth)
+						.thenComparing(Comparator.comparingLong(CategoryFacetDTO::getCount).reversed())
+						.thenComparing(CategoryFacetDTO::getId))
+				.collect(Collectors.toList());
+
+		return CategoryFacetsDTO.builder()
+				.total(total[0])
+				.levelTotals(levelTotals)
+				.facets(facets)
+				.build();
+	}
+
+	@Override
+	public CursorSliceDTO<RestaurantThumbView> getNearbySlice(double lat, double lng, double radius, String cursor, int size) {
+		validate(lat, lng, radius);
+		if (size < 1) {
+			throw new IllegalArgumentException("size must be >= 1");
+		}
+		NearbyCursor after = NearbyCursor.decode(cursor);
+
+		if (!restaurantGeoIndex.isReady()) {
+			List<RestaurantThumbView> rows = restaurantRepository.findNearbyThumbsAfter(
+					lat, lng, radius, GeoUtils.boundingBoxWkt(lat, lng, radius),
+					after.distance(), after.restaurantId(), size + 1);
+			boolean hasNext = rows.size() > size;
+			List<RestaurantThumbView> content = hasNext ? rows.subList(0, size) : rows;
+			RestaurantThumbView last = content.isEmpty() ? null : content.get(content.size() - 1);
+			return CursorSliceDTO.<RestaurantThumbView>builder()
+					.content(content)
+					.size(size)
+					.hasNext(hasNext)
+					.nextCursor(hasNext ? new NearbyCursor(last.getDistance(), last.getRestaurantId()).encode() : null)
+					.build();
+		}
+
+		// 커서 뒤의 후보만 크기 size + 1 힙으로 골라 다음 페이지 여부까지 판단
+		List<RestaurantGeoIndex.Candidate> candidates = restaurantGeoIndex.findWithinAfter(lat, lng, radius, after, size + 1);
+		boolean hasNext = candidates.size() > size;
+		List<RestaurantGeoIndex.Candidate> pageCandidates = hasNext ? candidates.subList(0, size) : candidates;
+		RestaurantGeoIndex.Candidate last = pageCandidates.isEmpty() ? null : pageCandidates.get(pageCandidates.size() - 1);
+
+		List<Long> ids = pageCandidates.stream()
+				.map(RestaurantGeoIndex.Candidate::id)
+				.collect(Collectors.toList());
+		return CursorSliceDTO.<RestaurantThumbView>builder()
+				.content(hydrateThumbs(lat, lng, ids))
+				.size(size)
+				.hasNext(hasNext)
+				.nextCursor(hasNext ? new NearbyCursor(last.distance(), last.id()).encode() : null)
+				.build();
+	}
+
+	@Override
+	public List<RestaurantThumbView> getNearest(double lat, double lng, int k) {
+		validate(lat, lng, 1);
+		if (k < 1 || k > MAX_NEAREST) {
+			throw new IllegalArgumentException("k must be in [1, " + MAX_NEAREST + "]");
+		}
+		if (restaurantGeoIndex.isReady()) {
+			List<Long> ids = restaurantGeoIndex.findNearest(lat, lng, k).stream()
+					.map(RestaurantGeoIndex.Candidate::id)
+					.collect(Collectors.toList());
+			return hydrateThumbs(lat, lng, ids);
+		}
+
+		// 인덱스 적재 전: 반경을 두 배씩 넓혀 가며 DB 조회
+		Pageable pageable = PageRequest.of(0, k);
+		for (double radius = 500; ; radius *= 2) {
+			Page<RestaurantThumbView> page = restaurantRepository.findNearbyThumbs(
+					lat, lng, radius, GeoUtils.boundingBoxWkt(lat, lng, radius), pageable);
+			if (page.getTotalElements() >= k || radius >= NEAREST_MAX_RADIUS) {
+				return page.getContent();
+			}
+		}
+	}
+
+	private List<RestaurantThumbView> hydrateThumbs(double lat, double lng, List<Long> ids) {
+		if (ids.isEmpty()) return List.of();
+		List<RestaurantThumbView> cached = fromCatalog(ids, lat, lng);
+		if (cached != null) return cached;
+		return inOrder(ids, restaurantRepository.findNearbyThumbsByIds(lat, lng, ids));
+	}
+
+	// 스냅샷이 아직 없거나 모르는 ID가 섞여 있으면 null (DB 조회로 대체)
+	private List<RestaurantThumbView> fromCatalog(List<Long> ids, Double lat, Double lng) {
+		RestaurantCatalogSnapshot snapshot = restaurantCatalog.snapshot();
+		return snapshot == null ? null : snapshot.thumbs(ids, lat, lng);
+	}
+
+	// IN 쿼리 결과를 요청한 ID 순서대로 정렬 (없는 ID는 제외)
+	private List<RestaurantThumbView> inOrder(List<Long> ids, List<RestaurantThumbView> rows) {
+		Map<Long, RestaurantThumbView> byId = rows.stream()
+				.collect(Collectors.toMap(RestaurantThumbView::getRestaurantId, Function.identity()));
+		return ids.stream()
+				.map(byId::get)
+				.filter(Objects::nonNull)
+				.collect(Collectors.toList());
+	}
+
+	@Override
+	public List<RestaurantThumbView> getThumbs(Collection<Long> ids) {
+		List<Long> distinct = ids.stream()
+				.filter(Objects::nonNull)
+				.distinct()
+				.collect(Collectors.toList());
+		if (distinct.size() > MAX_BATCH_IDS) {
+			throw new IllegalArgumentException("ids must be <= " + MAX_BATCH_IDS);
+		}
+		if (distinct.isEmpty()) return List.of();
+		List<RestaurantThumbView> cached = fromCatalog(distinct, null, null);
+		if (cached != null) return cached;
+		return inOrder(distinct, restaurantRepository.findThumbsByIds(distinct));
+	}
+
+	@Override
+	public List<RestaurantThumbView> search(String q, Double lat, Double lng, int size) {
+		if (q == null || q.isBlank()) {
+			throw new IllegalArgumentException("q is required");
+		}
+		if (size < 1 || size > MAX_SEARCH) {
+			throw new IllegalArgumentException("size must be in [1, " + MAX_SEARCH + "]");
+		}
+		if ((lat == null) != (lng == null)) {
+			throw new IllegalArgumentException("lat and lng must be given together");
+		}
+		if (lat != null) validate(lat, lng, 1);
+
+		List<Long> ids = restaurantSearchIndex.search(q, lat, lng, size).stream()
+				.map(RestaurantSearchIndex.Hit::id)
+				.collect(Collectors.toList());
+		if (ids.isEmpty()) return List.of();
+		// 좌표가 있으면 거리까지 채워서 반환
+		return lat != null
+				? hydrateThumbs(lat, lng, ids)
+				: getThumbs(ids);
+	}
+
+	@Override
+	public RestaurantDTO getDetail(Long id) {
+		return detailCache.getOrLoad(id, () -> loadDetail(id));
+	}
+
+	// 음식점/확장 정보/대표 이미지/메뉴를 쿼리 한 번으로 조회해 조립
+	private RestaurantDTO loadDetail(Long id) {
+		List<RestaurantDetailRowView> rows = restaurantRepository.findDetailRows(id);
+		if (rows.isEmpty()) {
+			throw new IllegalArgumentException("Restaurant not found: " + id);
+		}
+		RestaurantDetailRowView r = rows.get(0);
+
+		// 펀딩률은 기본 금액 + 누적 펀딩 + 아직 기록 전 증감분 기준 (진행률 API와 같은 값)
+		Integer percent = fundingProgressService.get(id).getFundingPercent();
+
+		List<MenuDTO> menus = rows.stream()
+				.filter(row -> row.getMenuId() != null)
+				.map(row -> MenuDTO.builder()
+						.id(row.getMenuId())
+						.name(row.getMenuName())
+						.description(row.getMenuDescription())
+						.price(row.getMenuPrice())
+						.imageUrl(row.getMenuImageUrl())
+						.build())
+				.toList();
+
+		return RestaurantDTO.builder()
+				.id(r.getId())
+				.name(r.getName())
+				.categoryName(r.getCategoryName())
+				.phone(r.getPhone())
+				.roadAddressName(r.getRoadAddressName())
+				.x(r.getX())
+				.y(r.getY())
+				.placeUrl(r.getPlaceUrl())
+				.fundingAmount(r.getFundingAmount())
+				.fundingGoalAmount(r.getFundingGoalAmount())
+				.fundingPercent(percent)
+				.totalFundingAmount(r.getTotalFundingAmount())
+				.imageUrl(r.getImageUrl())
+				.description(r.getDescription())
+				.businessHours(r.getBusinessHours())
+				.priceRange(r.getPriceRange())
+				.tags(r.getTags())
+				.homepageUrl(r.getHomepageUrl())
+				.instagramUrl(r.getInstagramUrl())
+				.notice(r.getNotice())
+				.fundingStartDate(r.getFundingStartDate() != null ? r.getFundingStartDate().toString() : null)
+				.fundingEndDate(r.getFundingEndDate() != null ? r.getFundingEndDate().toString() : null)
+				.menus(menus)
+				.build();
 	}
 
 	@Override
 	public List<MenuDTO> getMenus(Long restaurantId) {
+		RestaurantDTO cached = detailCache.get(restaurantId);
+		if (cached != null) return cached.getMenus();
+
 		return menuRepository.findByRestaurant_Id(restaurantId).stream()
 				.map(m -> MenuDTO.builder()
 						.id(m.getId())
@@ -101,6 +345,16 @@ public class RestaurantServiceImpl implements RestaurantService {
 				.collect(Collectors.toList());
 	}
 
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onRestaurantChanged(RestaurantChangedEvent event) {
+		detailCache.invalidate(event.restaurantId());
+	}
+
+	@EventListener
+	public void onFundingProgressFlushed(FundingProgressFlushedEvent event) {
+		event.restaurantIds().forEach(detailCache::invalidate);
+	}
+
 	private void validate(double lat, double lng, double radius) {
 		if (radius <= 0) {
 			throw new IllegalArgumentException("radius must be > 0 (meters)");
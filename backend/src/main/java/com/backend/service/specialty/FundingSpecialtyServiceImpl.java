@@ -3,12 +3,17 @@ package com.backend.service.specialty;
 import com.backend.domain.specialty.FundingSpecialty;
 import com.backend.dto.specialty.FundingSpecialtyDTO;
 import com.backend.repository.specialty.FundingSpecialtyRepository;
+import com.backend.util.IdempotencyGuard;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -21,6 +26,18 @@ import java.util.stream.Collectors;
 public class FundingSpecialtyServiceImpl implements FundingSpecialtyService {
 
     private final FundingSpecialtyRepository fundingSpecialtyRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // merchantUid별 결제 완료 멱등 처리: 결제사 재시도/중복 요청은 처음 결과를 DB 쓰기 없이 반환
+    private final IdempotencyGuard<FundingSpecialtyDTO> paymentGuard = new IdempotencyGuard<>(1_000_000, 10_000, 600_000);
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadPaidMerchantUids() {
+        List<String> merchantUids = fundingSpecialtyRepository.findPaidMerchantUids();
+        merchantUids.forEach(paymentGuard::remember);
+        log.info("특산품 결제 완료 주문번호 적재: {}건", merchantUids.size());
+    }
 
     @Override
     public FundingSpecialtyDTO createOrder(FundingSpecialtyDTO orderDTO) {
@@ -54,13 +71,29 @@ public class FundingSpecialtyServiceImpl implements FundingSpecialtyService {
         return FundingSpecialtyDTO.fromEntity(savedOrder);
     }
 
+    /**
+     * 이미 결제 완료된 주문이면 쓰기 없이 기존 결과를 반환한다.
+     * 트랜잭션은 멱등 처리 안쪽에서 열어, 커밋된 결과만 재사용되도록 한다.
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public FundingSpecialtyDTO completePayment(String impUid, String merchantUid) {
+        return paymentGuard.execute(merchantUid, this::findPaidOrder,
+                () -> transactionTemplate.execute(status -> markPaid(impUid, merchantUid)));
+    }
+
+    private FundingSpecialtyDTO markPaid(String impUid, String merchantUid) {
         log.info("결제 완료 처리: impUid={}, merchantUid={}", impUid, merchantUid);
 
         FundingSpecialty order = fundingSpecialtyRepository.findByMerchantUid(merchantUid)
                 .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없습니다: " + merchantUid));
 
+        // 다른 서버에서 먼저 처리된 경우
+        if (order.getOrderStatus() == FundingSpecialty.OrderStatus.PAID) {
+            log.info("이미 결제 완료된 주문: ID={}", order.getId());
+            return FundingSpecialtyDTO.fromEntity(order);
+        }
+
         order.setImpUid(impUid);
         order.setOrderStatus(FundingSpecialty.OrderStatus.PAID);
 
@@ -70,6 +103,13 @@ public class FundingSpecialtyServiceImpl implements FundingSpecialtyService {
         return FundingSpecialtyDTO.fromEntity(updatedOrder);
     }
 
+    private FundingSpecialtyDTO findPaidOrder(String merchantUid) {
+        return fundingSpecialtyRepository.findByMerchantUid(merchantUid)
+                .filter(order -> order.getOrderStatus() == FundingSpecialty.OrderStatus.PAID)
+                .map(FundingSpecialtyDTO::fromEntity)
+                .orElse(null);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public FundingSpecialtyDTO getOrderById(Long id) {
@@ -0,0 +1,233 @@
+package com.backend.service.stats;
+
+import com.backend.domain.member.Funding;
+import com.backend.event.FundingCreatedEvent;
+import com.backend.event.FundingStatusChangedEvent;
+import com.backend.service.outbox.OutboxConsumer;
+import com.backend.service.outbox.OutboxMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 펀딩 통계 사전 집계. 아웃박스의 펀딩 이벤트를 받아 일별/회원별 집계 행을 증감한다.
+ * - COMPLETED 펀딩만 센다. 생성 시 COMPLETED면 +1, 상태 변경으로 COMPLETED에서 빠지면 -1, 다시 들어오면 +1
+ * - 날짜는 펀딩 생성일 기준이므로 취소/환불도 생성일의 집계에서 빠진다 (기존 GROUP BY 결과와 같음)
+ * - 카테고리/음식점 이름은 반영 시점의 restaurant 값을 쓴다. 전체 재계산(rebuild)은 현재 값으로 다시 만든다
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class FundingStatsRollup implements OutboxConsumer {
+
+    static final String UNCATEGORIZED = "기타";
+    private static final int APPLIED_RETENTION_DAYS = 30;
+
+    private static final String COMPLETED = Funding.FundingStatus.COMPLETED.name();
+
+    private static final String UPSERT_DAILY_CATEGORY = """
+            INSERT INTO funding_daily_category_stats (stat_date, category_name, funding_count, funding_amount)
+            VALUES (?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE funding_count = funding_count + VALUES(funding_count),
+                                    funding_amount = funding_amount + VALUES(funding_amount)
+            """;
+    private static final String UPSERT_DAILY_RESTAURANT = """
+            INSERT INTO funding_daily_restaurant_stats (stat_date, restaurant_id, funding_count, funding_amount)
+            VALUES (?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE funding_count = funding_count + VALUES(funding_count),
+                                    funding_amount = funding_amount + VALUES(funding_amount)
+            """;
+    private static final String UPSERT_MEMBER_CATEGORY = """
+            INSERT INTO funding_member_category_stats (member_email, category_name, funding_count, funding_amount)
+            VALUES (?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE funding_count = funding_count + VALUES(funding_count),
+                                    funding_amount = funding_amount + VALUES(funding_amount)
+            """;
+    private static final String UPSERT_MEMBER_RESTAURANT = """
+            INSERT INTO funding_member_restaurant_stats (member_email, restaurant_id, restaurant_name, funding_count, funding_amount)
+            VALUES (?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE restaurant_name = VALUES(restaurant_name),
+                                    funding_count = funding_count + VALUES(funding_count),
+                                    funding_amount = funding_amount + VALUES(funding_amount)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    // 증감(읽기 잠금)과 전체 재계산(쓰기 잠금)이 섞이지 않도록. 잠금은 커밋까지 유지한다
+    private final ReadWriteLock rebuildLock = new ReentrantReadWriteLock();
+
+    private record RestaurantInfo(String name, String categoryName) {
+    }
+
+    @Override
+    public Set<String> eventTypes() {
+        return Set.of(FundingCreatedEvent.TYPE, FundingStatusChangedEvent.TYPE);
+    }
+
+    @Override
+    public void handle(OutboxMessage message) throws Exception {
+        long sign;
+        Long restaurantId;
+        String memberId;
+        long amount;
+        LocalDateTime fundedAt;
+        if (FundingCreatedEvent.TYPE.equals(message.eventType())) {
+            FundingCreatedEvent event = objectMapper.readValue(message.payload(), FundingCreatedEvent.class);
+            sign = COMPLETED.equals(event.status()) ? 1 : 0;
+            restaurantId = event.restaurantId();
+            memberId = event.memberId();
+            amount = event.amount();
+            fundedAt = event.createdAt();
+        } else {
+            FundingStatusChangedEvent event = objectMapper.readValue(message.payload(), FundingStatusChangedEvent.class);
+            sign = (COMPLETED.equals(event.status()) ? 1 : 0) - (COMPLETED.equals(event.previousStatus()) ? 1 : 0);
+            restaurantId = event.restaurantId();
+            memberId = event.memberId();
+            amount = event.amount();
+            fundedAt = event.fundingCreatedAt() != null ? event.fundingCreatedAt() : event.changedAt();
+        }
+        if (sign == 0) return;
+
+        long countDelta = sign;
+        long amountDelta = sign * amount;
+        LocalDate day = fundedAt.toLocalDate();
+
+        rebuildLock.readLock().lock();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // 이미 반영한 이벤트(재전달)면 건너뜀
+                int inserted = jdbcTemplate.update(
+                        "INSERT IGNORE INTO funding_stats_applied (event_id, applied_at) VALUES (?, ?)",
+                        message.id(), Timestamp.valueOf(LocalDateTime.now()));
+                if (inserted == 0) return;
+
+                RestaurantInfo restaurant = restaurantInfo(restaurantId);
+                jdbcTemplate.update(UPSERT_DAILY_CATEGORY, Date.valueOf(day), restaurant.categoryName(), countDelta, amountDelta);
+                jdbcTemplate.update(UPSERT_DAILY_RESTAURANT, Date.valueOf(day), restaurantId, countDelta, amountDelta);
+                jdbcTemplate.update(UPSERT_MEMBER_CATEGORY, memberId, restaurant.categoryName(), countDelta, amountDelta);
+                jdbcTemplate.update(UPSERT_MEMBER_RESTAURANT, memberId, restaurantId, restaurant.name(), countDelta, amountDelta);
+            });
+        } finally {
+            rebuildLock.readLock().unlock();
+        }
+    }
+
+    private RestaurantInfo restaurantInfo(Long restaurantId) {
+        List<RestaurantInfo> rows = jdbcTemplate.query(
+                "SELECT name, category_name FROM restaurant WHERE id = ?",
+                (rs, i) -> new RestaurantInfo(rs.getString(1), categoryOrDefault(rs.getString(2))),
+                restaurantId);
+        return rows.isEmpty() ? new RestaurantInfo(null, UNCATEGORIZED) : rows.get(0);
+    }
+
+    private static String categoryOrDefault(String categoryName) {
+        return categoryName == null || categoryName.isBlank() ? UNCATEGORIZED : categoryName;
+    }
+
+    /** 아웃박스 도입 전에 쌓인 펀딩이 있으므로, 집계가 비어 있으면 기동 시 한 번 전체 재계산 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        Long rows = jdbcTemplate.queryForObject(
+                "SELECT (SELECT COUNT(*) FROM funding_member_category_stats) + (SELECT COUNT(*) FROM funding_daily_category_stats)",
+                Long.class);
+        if (rows != null && rows == 0) {
+            rebuild();
+        }
+    }
+
+    /**
+     * funding 테이블에서 전체 집계를 다시 만든다 (한 트랜잭션, 한 스냅샷).
+     * 같은 스냅샷에서 아직 처리되지 않은 펀딩 이벤트는 반영 완료로 표시해, 나중에 전달되어도 두 번 세지 않는다.
+     */
+    public void rebuild() {
+        rebuildLock.writeLock().lock();
+        try {
+            long started = System.currentTimeMillis();
+            int[] counts = transactionTemplate.execute(status -> {
+                // 첫 SELECT가 읽기 스냅샷을 정하므로 이후 집계 쿼리도 같은 시점의 데이터를 본다
+                List<Long> pendingEventIds = jdbcTemplate.queryForList(
+                        "SELECT id FROM outbox_event WHERE status <> 'DONE' AND event_type IN (?, ?)",
+                        Long.class, FundingCreatedEvent.TYPE, FundingStatusChangedEvent.TYPE);
+
+                List<Object[]> dailyCategory = jdbcTemplate.query("""
+                        SELECT DATE(f.created_at), COALESCE(NULLIF(r.category_name, ''), ?), COUNT(*), SUM(f.total_amount)
+                        FROM funding f JOIN restaurant r ON r.id = f.restaurant_id
+                        WHERE f.status = 'COMPLETED'
+                        GROUP BY DATE(f.created_at), COALESCE(NULLIF(r.category_name, ''), ?)
+                        """, (rs, i) -> row(rs, 4), UNCATEGORIZED, UNCATEGORIZED);
+                List<Object[]> dailyRestaurant = jdbcTemplate.query("""
+                        SELECT DATE(f.created_at), f.restaurant_id, COUNT(*), SUM(f.total_amount)
+                        FROM funding f
+                        WHERE f.status = 'COMPLETED'
+                        GROUP BY DATE(f.created_at), f.restaurant_id
+                        """, (rs, i) -> row(rs, 4));
+                List<Object[]> memberCategory = jdbcTemplate.query("""
+                        SELECT f.member_email, COALESCE(NULLIF(r.category_name, ''), ?), COUNT(*), SUM(f.total_amount)
+                        FROM funding f JOIN restaurant r ON r.id = f.restaurant_id
+                        WHERE f.status = 'COMPLETED'
+                        GROUP BY f.member_email, COALESCE(NULLIF(r.category_name, ''), ?)
+                        """, (rs, i) -> row(rs, 4), UNCATEGORIZED, UNCATEGORIZED);
+                List<Object[]> memberRestaurant = jdbcTemplate.query("""
+                        SELECT f.member_email, f.restaurant_id, MAX(r.name), COUNT(*), SUM(f.total_amount)
+                        FROM funding f JOIN restaurant r ON r.id = f.restaurant_id
+                        WHERE f.status = 'COMPLETED'
+                        GROUP BY f.member_email, f.restaurant_id
+                        """, (rs, i) -> row(rs, 5));
+
+                jdbcTemplate.update("DELETE FROM funding_daily_category_stats");
+                jdbcTemplate.update("DELETE FROM funding_daily_restaurant_stats");
+                jdbcTemplate.update("DELETE FROM funding_member_category_stats");
+                jdbcTemplate.update("DELETE FROM funding_member_restaurant_stats");
+                jdbcTemplate.batchUpdate(UPSERT_DAILY_CATEGORY, dailyCategory);
+                jdbcTemplate.batchUpdate(UPSERT_DAILY_RESTAURANT, dailyRestaurant);
+                jdbcTemplate.batchUpdate(UPSERT_MEMBER_CATEGORY, memberCategory);
+                jdbcTemplate.batchUpdate(UPSERT_MEMBER_RESTAURANT, memberRestaurant);
+
+                Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+                List<Object[]> applied = new ArrayList<>(pendingEventIds.size());
+                for (Long id : pendingEventIds) applied.add(new Object[]{id, now});
+                jdbcTemplate.batchUpdate("INSERT IGNORE INTO funding_stats_applied (event_id, applied_at) VALUES (?, ?)", applied);
+
+                return new int[]{dailyCategory.size(), dailyRestaurant.size(), memberCategory.size(), memberRestaurant.size()};
+            });
+            log.info("펀딩 통계 전체 재계산: 일별 카테고리 {}행, 일별 음식점 {}행, 회원 카테고리 {}행, 회원 음식점 {}행 ({}ms)",
+                    counts[0], counts[1], counts[2], counts[3], System.currentTimeMillis() - started);
+        } finally {
+            rebuildLock.writeLock().unlock();
+        }
+    }
+
+    private static Object[] row(ResultSet rs, int columns) throws SQLException {
+        Object[] row = new Object[columns];
+        for (int i = 0; i < columns; i++) row[i] = rs.getObject(i + 1);
+        return row;
+    }
+
+    /** 아웃박스 보관 기간(7일)보다 충분히 지난 반영 기록 정리 */
+    @Scheduled(cron = "0 45 4 * * *")
+    public void purgeApplied() {
+        int deleted = jdbcTemplate.update("DELETE FROM funding_stats_applied WHERE applied_at < ?",
+                Timestamp.valueOf(LocalDateTime.now().minusDays(APPLIED_RETENTION_DAYS)));
+        if (deleted > 0) log.info("펀딩 통계 반영 기록 정리: {}건", deleted);
+    }
+}
@@ -0,0 +1,98 @@
+package com.backend.service.stats;
+
+import com.backend.dto.stats.FundingStatDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * 사전 집계 테이블 조회. 원본 funding/restaurant 조인 없이 결과 행만 읽는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class FundingStatsService {
+
+    static final int MAX_RANGE_DAYS = 366;
+    static final int MAX_LIMIT = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** 기간 내 일별·카테고리별 (날짜순, 같은 날은 금액 큰 순) */
+    public List<FundingStatDTO> getDailyCategoryStats(LocalDate from, LocalDate to) {
+        checkRange(from, to);
+        return jdbcTemplate.query("""
+                SELECT stat_date, category_name, funding_count, funding_amount
+                FROM funding_daily_category_stats
+                WHERE stat_date BETWEEN ? AND ? AND funding_count > 0
+                ORDER BY stat_date, funding_amount DESC
+                """, (rs, i) -> FundingStatDTO.builder()
+                .statDate(rs.getDate(1).toLocalDate())
+                .categoryName(rs.getString(2))
+                .fundingCount(rs.getLong(3))
+                .fundingAmount(rs.getLong(4))
+                .build(), Date.valueOf(from), Date.valueOf(to));
+    }
+
+    /** 음식점의 기간 내 일별 (날짜순) */
+    public List<FundingStatDTO> getDailyRestaurantStats(Long restaurantId, LocalDate from, LocalDate to) {
+        checkRange(from, to);
+        return jdbcTemplate.query("""
+                SELECT stat_date, funding_count, funding_amount
+                FROM funding_daily_restaurant_stats
+                WHERE restaurant_id = ? AND stat_date BETWEEN ? AND ? AND funding_count > 0
+                ORDER BY stat_date
+                """, (rs, i) -> FundingStatDTO.builder()
+                .statDate(rs.getDate(1).toLocalDate())
+                .restaurantId(restaurantId)
+                .fundingCount(rs.getLong(2))
+                .fundingAmount(rs.getLong(3))
+                .build(), restaurantId, Date.valueOf(from), Date.valueOf(to));
+    }
+
+    /** 회원의 카테고리별 (건수 많은 순). 첫 행이 가장 많이 펀딩한 카테고리 */
+    public List<FundingStatDTO> getMemberCategoryStats(String memberEmail) {
+        return jdbcTemplate.query("""
+                SELECT category_name, funding_count, funding_amount
+                FROM funding_member_category_stats
+                WHERE member_email = ? AND funding_count > 0
+                ORDER BY funding_count DESC, funding_amount DESC
+                """, (rs, i) -> FundingStatDTO.builder()
+                .categoryName(rs.getString(1))
+                .fundingCount(rs.getLong(2))
+                .fundingAmount(rs.getLong(3))
+                .build(), memberEmail);
+    }
+
+    /** 회원이 가장 많이 펀딩한 음식점 상위 limit개 */
+    public List<FundingStatDTO> getMemberTopRestaurants(String memberEmail, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        return jdbcTemplate.query("""
+                SELECT restaurant_id, restaurant_name, funding_count, funding_amount
+                FROM funding_member_restaurant_stats
+                WHERE member_email = ? AND funding_count > 0
+                ORDER BY funding_count DESC, funding_amount DESC
+                LIMIT ?
+                """, (rs, i) -> FundingStatDTO.builder()
+                .restaurantId(rs.getLong(1))
+                .restaurantName(rs.getString(2))
+                .fundingCount(rs.getLong(3))
+                .fundingAmount(rs.getLong(4))
+                .build(), memberEmail, limit);
+    }
+
+    private static void checkRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new IllegalArgumentException("from must be on or before to");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("range must be at most " + MAX_RANGE_DAYS + " days");
+        }
+    }
+}
@@ -26,4 +26,7 @@ public interface WishlistService {
     
     // 찜 목록과 레스토랑 상세 정보 함께 조회 (프론트엔드 최적화용)
     List<Map<String, Object>> getUserWishlistWithDetails(String memberEmail);
+
+    // lat/lng를 주면 distance를 현재 위치 기준 거리(m)로 채움
+    List<Map<String, Object>> getUserWishlistWithDetails(String memberEmail, Double lat, Double lng);
 } 
\ No newline at end of file
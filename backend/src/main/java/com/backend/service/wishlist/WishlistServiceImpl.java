@@ -5,6 +5,7 @@ import com.backend.domain.wishlist.Wishlist;
 import com.backend.dto.wishlist.WishlistDTO;
 import com.backend.repository.restaurant.RestaurantRepository;
 import com.backend.repository.wishlist.WishlistRepository;
+import com.backend.util.HaversineKernels;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -13,6 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Service
 @RequiredArgsConstructor
@@ -85,10 +87,19 @@ public class WishlistServiceImpl implements WishlistService {
     @Override
     @Transactional(readOnly = true)
     public List<Map<String, Object>> getUserWishlistWithDetails(String memberEmail) {
-        List<Wishlist> wishlists = wishlistRepository.findByMemberEmail(memberEmail);
-        
-        return wishlists.stream()
-                .map(wishlist -> {
+        return getUserWishlistWithDetails(memberEmail, null, null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getUserWishlistWithDetails(String memberEmail, Double lat, Double lng) {
+        List<Wishlist> wishlists = wishlistRepository.findWithRestaurantByMemberEmail(memberEmail);
+
+        double[] distances = lat != null && lng != null ? distancesFrom(lat, lng, wishlists) : null;
+
+        return IntStream.range(0, wishlists.size())
+                .mapToObj(i -> {
+                    Wishlist wishlist = wishlists.get(i);
                     Restaurant restaurant = wishlist.getRestaurant();
                     Map<String, Object> wishlistDetail = new java.util.HashMap<>();
                     
@@ -105,7 +116,11 @@ public class WishlistServiceImpl implements WishlistService {
                     wishlistDetail.put("placeUrl", restaurant.getPlaceUrl());
                     wishlistDetail.put("x", restaurant.getX());
                     wishlistDetail.put("y", restaurant.getY());
-                    wishlistDetail.put("distance", restaurant.getDistance());
+                    if (distances != null) {
+                        wishlistDetail.put("distance", (int) Math.round(distances[i]));
+                    } else {
+                        wishlistDetail.put("distance", restaurant.getDistance());
+                    }
                     
                     // 펀딩 정보
                     wishlistDetail.put("fundingAmount", restaurant.getFundingAmount());
@@ -118,6 +133,18 @@ public class WishlistServiceImpl implements WishlistService {
                 .collect(Collectors.toList());
     }
 
+    // 현재 위치에서 찜한 음식점 전체까지의 거리를 한 번에 계산
+    private double[] distancesFrom(double lat, double lng, List<Wishlist> wishlists) {
+        int n = wishlists.size();
+        double[] lats = new double[n], lngs = new double[n], distances = new double[n];
+        for (int i = 0; i < n; i++) {
+            lats[i] = wishlists.get(i).getRestaurant().getY();
+            lngs[i] = wishlists.get(i).getRestaurant().getX();
+        }
+        HaversineKernels.best().distances(lat, lng, lats, lngs, n, distances);
+        return distances;
+    }
+
     private WishlistDTO convertToDTO(Wishlist wishlist) {
         return WishlistDTO.builder()
                 .id(wishlist.getId())
@@ -0,0 +1,58 @@
+package com.backend.util;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * RFC 4180 CSV 한 줄씩 쓰기. 버퍼링은 넘겨받은 Writer에 맡기고 행을 모아두지 않는다.
+ * 엑셀에서 수식으로 해석되는 값(=, +, -, @, 탭, CR 로 시작)은 앞에 '를 붙여 문자열로 남긴다.
+ */
+public final class CsvWriter implements Flushable, Closeable {
+
+    private final Writer out;
+
+    public CsvWriter(Writer out) {
+        this.out = out;
+    }
+
+    /** 엑셀이 UTF-8로 열도록 BOM을 쓴다 (첫 행 전에 한 번) */
+    public CsvWriter bom() throws IOException {
+        out.write('\uFEFF');
+        return this;
+    }
+
+    public CsvWriter row(Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) out.write(',');
+            out.write(escape(values[i]));
+        }
+        out.write("\r\n");
+        return this;
+    }
+
+    static String escape(Object value) {
+        if (value == null) return "";
+        String s = value.toString();
+        if (!s.isEmpty() && !(value instanceof Number) && "=+-@\t\r".indexOf(s.charAt(0)) >= 0) {
+            s = "'" + s;
+        }
+        boolean quote = false;
+        for (int i = 0; i < s.length() && !quote; i++) {
+            char c = s.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        return quote ? '"' + s.replace("\"", "\"\"") + '"' : s;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
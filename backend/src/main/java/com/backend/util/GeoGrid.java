@@ -0,0 +1,147 @@
+package com.backend.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 위경도를 일정 크기(도 단위) 격자로 나눈 메모리 공간 인덱스.
+ * 셀 키는 (행, 열)을 long 하나로 합친 값이며, 읽기와 쓰기가 동시에 일어나도 안전하다.
+ */
+public class GeoGrid<T> {
+
+    private final double cellDegrees;
+    private final ConcurrentHashMap<Long, ConcurrentHashMap<Long, T>> cells = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Long> cellOf = new ConcurrentHashMap<>();
+
+    public GeoGrid(double cellDegrees) {
+        if (cellDegrees <= 0) {
+            throw new IllegalArgumentException("cellDegrees must be > 0");
+        }
+        this.cellDegrees = cellDegrees;
+    }
+
+    public double getCellDegrees() {
+        return cellDegrees;
+    }
+
+    public int size() {
+        return cellOf.size();
+    }
+
+    /** 값이 하나 이상 있는 셀 수 */
+    public int cellCount() {
+        return cells.size();
+    }
+
+    public void put(long id, double lat, double lng, T value) {
+        long key = key(row(lat), col(lng));
+        Long previous = cellOf.put(id, key);
+        if (previous != null && previous != key) {
+            removeFromCell(previous, id);
+        }
+        cells.compute(key, (k, cell) -> {
+            if (cell == null) cell = new ConcurrentHashMap<>();
+            cell.put(id, value);
+            return cell;
+        });
+    }
+
+    public T get(long id) {
+        Long key = cellOf.get(id);
+        if (key == null) return null;
+        ConcurrentHashMap<Long, T> cell = cells.get(key);
+        return cell == null ? null : cell.get(id);
+    }
+
+    public void remove(long id) {
+        Long key = cellOf.remove(id);
+        if (key != null) {
+            removeFromCell(key, id);
+        }
+    }
+
+    public void clear() {
+        cells.clear();
+        cellOf.clear();
+    }
+
+    public void forEach(Consumer<T> action) {
+        for (ConcurrentHashMap<Long, T> cell : cells.values()) {
+            cell.values().forEach(action);
+        }
+    }
+
+    /** 위경도 사각형과 겹치는 셀의 모든 값을 순회 (셀 단위이므로 경계 바깥 값도 포함될 수 있음) */
+    public void forEachInBox(double minLat, double maxLat, double minLng, double maxLng, Consumer<T> action) {
+        int r0 = row(minLat), r1 = row(maxLat);
+        int c0 = col(minLng), c1 = col(maxLng);
+        long boxCells = (long) (r1 - r0 + 1) * (c1 - c0 + 1);
+
+        // 범위가 실제 사용 중인 셀 수보다 넓으면 셀 목록을 직접 훑는 편이 빠르다
+        if (boxCells > cells.size()) {
+            for (Map.Entry<Long, ConcurrentHashMap<Long, T>> e : cells.entrySet()) {
+                int r = rowOf(e.getKey()), c = colOf(e.getKey());
+                if (r >= r0 && r <= r1 && c >= c0 && c <= c1) {
+                    e.getValue().values().forEach(action);
+                }
+            }
+            return;
+        }
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                forEachInCell(r, c, action);
+            }
+        }
+    }
+
+    public void forEachInCell(int row, int col, Consumer<T> action) {
+        ConcurrentHashMap<Long, T> cell = cells.get(key(row, col));
+        if (cell != null) {
+            cell.values().forEach(action);
+        }
+    }
+
+    /** (row, col)에서 체비쇼프 거리가 정확히 ring인 셀(정사각형 테두리)만 순회. ring 0은 중심 셀 */
+    public void forEachInRing(int row, int col, int ring, Consumer<T> action) {
+        if (ring == 0) {
+            forEachInCell(row, col, action);
+            return;
+        }
+        for (int c = col - ring; c <= col + ring; c++) {
+            forEachInCell(row - ring, c, action);
+            forEachInCell(row + ring, c, action);
+        }
+        for (int r = row - ring + 1; r <= row + ring - 1; r++) {
+            forEachInCell(r, col - ring, action);
+            forEachInCell(r, col + ring, action);
+        }
+    }
+
+    public int row(double lat) {
+        return (int) Math.floor((lat + 90.0) / cellDegrees);
+    }
+
+    public int col(double lng) {
+        return (int) Math.floor((lng + 180.0) / cellDegrees);
+    }
+
+    private void removeFromCell(long key, long id) {
+        cells.computeIfPresent(key, (k, cell) -> {
+            cell.remove(id);
+            return cell.isEmpty() ? null : cell;
+        });
+    }
+
+    private static long key(int row, int col) {
+        return ((long) row << 32) | (col & 0xffffffffL);
+    }
+
+    private static int rowOf(long key) {
+        return (int) (key >> 32);
+    }
+
+    private static int colOf(long key) {
+        return (int) key;
+    }
+}
@@ -0,0 +1,55 @@
+package com.backend.util;
+
+/**
+ * 위경도 거리/범위 계산 유틸.
+ * 지구 반지름은 MariaDB ST_Distance_Sphere 기본값과 같게 맞춰 DB 계산 결과와 오차가 없도록 한다.
+ */
+public final class GeoUtils {
+
+    public static final double EARTH_RADIUS_METERS = 6_370_986.0;
+
+    private static final double METERS_PER_DEGREE = Math.PI * EARTH_RADIUS_METERS / 180.0;
+
+    private GeoUtils() {
+    }
+
+    /** 두 좌표 사이의 대원 거리(m) - haversine */
+    public static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    /** 반경(m)을 위도 방향 각도로 환산 */
+    public static double latDegrees(double meters) {
+        return meters / METERS_PER_DEGREE;
+    }
+
+    /** 반경(m)을 해당 위도에서의 경도 방향 각도로 환산 (극지방에서는 전체 경도) */
+    public static double lngDegrees(double meters, double lat) {
+        double cos = Math.cos(Math.toRadians(Math.min(89.9, Math.abs(lat) + latDegrees(meters))));
+        return Math.min(180.0, meters / (METERS_PER_DEGREE * cos));
+    }
+
+    /**
+     * 중심과 반경(m)을 감싸는 사각형을 WKT POLYGON으로 반환 (x=경도, y=위도).
+     * MBRContains 1차 필터용이며 정확한 거리 판정은 ST_Distance_Sphere로 따로 한다.
+     */
+    public static String boundingBoxWkt(double lat, double lng, double meters) {
+        double dLat = latDegrees(meters);
+        double dLng = lngDegrees(meters, lat);
+        double minLat = Math.max(-90.0, lat - dLat), maxLat = Math.min(90.0, lat + dLat);
+        double minLng = Math.max(-180.0, lng - dLng), maxLng = Math.min(180.0, lng + dLng);
+        return "POLYGON((" + minLng + " " + minLat + ", " + maxLng + " " + minLat + ", "
+                + maxLng + " " + maxLat + ", " + minLng + " " + maxLat + ", "
+                + minLng + " " + minLat + "))";
+    }
+
+    /** 위도 1도에 해당하는 거리(m) */
+    public static double metersPerDegree() {
+        return METERS_PER_DEGREE;
+    }
+}
@@ -0,0 +1,101 @@
+package com.backend.util;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 해시 타이밍 휠. 예약 시각을 tick 단위 칸(bucket)에 나눠 담고, 시계를 한 칸씩 돌리며 만료된 항목만 꺼낸다.
+ * 예약/꺼내기 모두 항목 수와 무관하게 O(1)이라 우선순위 큐 없이 대량의 마감 시각을 다룰 수 있다.
+ * 예약(schedule)은 어느 스레드에서나 가능하고, 시계 진행(advanceTo)은 한 스레드에서만 호출해야 한다.
+ * 항목은 예약 시각이 속한 tick이 끝난 뒤에 나오므로 최대 tick만큼 늦을 수는 있어도 일찍 나오지는 않는다.
+ */
+public class HashedTimingWheel<T> {
+
+    private final long tickMillis;
+    private final long startMillis;
+    private final int mask;
+    private final List<List<Entry<T>>> buckets;
+    private final ConcurrentLinkedQueue<Entry<T>> pending = new ConcurrentLinkedQueue<>();
+
+    private long currentTick = 0;   // 다음에 처리할 tick
+    private int size = 0;           // 칸에 들어간 항목 수 (pending 제외)
+
+    private static final class Entry<T> {
+        final long deadlineTick;
+        final T payload;
+        long remainingRounds;
+
+        Entry(long deadlineTick, T payload) {
+            this.deadlineTick = deadlineTick;
+            this.payload = payload;
+        }
+    }
+
+    /** wheelSize는 2의 거듭제곱으로 올림 */
+    public HashedTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be > 0");
+        }
+        if (wheelSize <= 0 || wheelSize > (1 << 20)) {
+            throw new IllegalArgumentException("wheelSize must be in [1, 2^20]");
+        }
+        int n = Integer.highestOneBit(wheelSize);
+        if (n < wheelSize) n <<= 1;
+
+        this.tickMillis = tickMillis;
+        this.startMillis = startMillis;
+        this.mask = n - 1;
+        this.buckets = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) buckets.add(new ArrayList<>());
+    }
+
+    /** deadlineMillis(epoch ms)에 payload 예약. 이미 지난 시각이면 다음 진행 때 바로 나온다 */
+    public void schedule(T payload, long deadlineMillis) {
+        long tick = Math.max(0, Math.floorDiv(deadlineMillis - startMillis, tickMillis));
+        pending.add(new Entry<>(tick, payload));
+    }
+
+    /** nowMillis까지 끝난 tick들을 처리하고 만료된 항목을 예약 시각 순(tick 단위)으로 반환 */
+    public List<T> advanceTo(long nowMillis) {
+        // nowMillis가 속한 tick 직전까지 (끝난 tick만)
+        long lastTick = Math.floorDiv(nowMillis - startMillis, tickMillis) - 1;
+        transferPending();
+
+        List<T> expired = new ArrayList<>();
+        while (currentTick <= lastTick) {
+            List<Entry<T>> bucket = buckets.get((int) (currentTick & mask));
+            Iterator<Entry<T>> it = bucket.iterator();
+            while (it.hasNext()) {
+                Entry<T> e = it.next();
+                if (e.remainingRounds <= 0) {
+                    it.remove();
+                    size--;
+                    expired.add(e.payload);
+                } else {
+                    e.remainingRounds--;
+                }
+            }
+            currentTick++;
+            // 한 바퀴 이상 밀렸을 때 남은 칸에 이미 지난 항목이 쌓이지 않도록, 빈 휠이면 바로 건너뜀
+            if (size == 0 && currentTick <= lastTick) currentTick = lastTick + 1;
+        }
+        return expired;
+    }
+
+    /** 아직 나오지 않은 항목 수 */
+    public int size() {
+        return size + pending.size();
+    }
+
+    private void transferPending() {
+        Entry<T> e;
+        while ((e = pending.poll()) != null) {
+            long tick = Math.max(e.deadlineTick, currentTick);
+            e.remainingRounds = (tick - currentTick) / buckets.size();
+            buckets.get((int) (tick & mask)).add(e);
+            size++;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.backend.util;
+
+/**
+ * 기준점 하나와 후보 여러 개 사이의 대원 거리(m)를 한 번에 계산하는 커널.
+ * 후보 좌표는 double[] 배열(위도, 경도 각각)로 받는다. GeoUtils.distanceMeters와 같은 식이다.
+ * 구현 선택은 HaversineKernels.best()를 쓴다.
+ */
+public interface HaversineKernel {
+
+    /** out[i] = (lat, lng) ~ (lats[i], lngs[i]) 거리(m), 0 <= i < n */
+    void distances(double lat, double lng, double[] lats, double[] lngs, int n, double[] out);
+
+    String name();
+}
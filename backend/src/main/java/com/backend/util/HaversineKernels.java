@@ -0,0 +1,36 @@
+package com.backend.util;
+
+/**
+ * 실행 환경에 맞는 HaversineKernel 선택.
+ * --add-modules jdk.incubator.vector 로 기동했으면 Vector API 구현, 아니면 스칼라 구현.
+ * -Dpick.geo.kernel=scalar 로 강제로 스칼라를 쓸 수 있다.
+ */
+public final class HaversineKernels {
+
+    private static final HaversineKernel SCALAR = new ScalarHaversineKernel();
+    private static final HaversineKernel BEST = select();
+
+    private HaversineKernels() {
+    }
+
+    public static HaversineKernel best() {
+        return BEST;
+    }
+
+    public static HaversineKernel scalar() {
+        return SCALAR;
+    }
+
+    private static HaversineKernel select() {
+        if ("scalar".equals(System.getProperty("pick.geo.kernel"))
+                || ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return SCALAR;
+        }
+        try {
+            return (HaversineKernel) Class.forName("com.backend.util.VectorHaversineKernel")
+                    .getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return SCALAR;
+        }
+    }
+}
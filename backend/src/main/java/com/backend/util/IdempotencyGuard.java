@@ -0,0 +1,74 @@
+package com.backend.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 키(주문번호 등) 단위 멱등 실행.
+ * 같은 키로 다시 들어온 요청은 처음 결과를 그대로 돌려주고 action(쓰기)은 한 번만 실행한다.
+ * <ol>
+ *   <li>최근 결과 캐시에 있으면 바로 반환</li>
+ *   <li>같은 키가 처리 중이면 그 결과를 기다렸다가 반환 (동시 재시도는 한 번의 쓰기로 합쳐짐)</li>
+ *   <li>블룸 필터에 있을 수 있으면 lookup(DB 조회)으로 기존 결과 확인, 확실히 처음 보는 키면 조회 없이 action 실행</li>
+ * </ol>
+ * 여러 서버 간의 중복은 DB 유니크 인덱스가 최종적으로 막고, 호출 측은 위반 시 lookup 결과를 돌려주면 된다.
+ */
+public class IdempotencyGuard<V> {
+
+    private final BloomFilter seen;
+    private final LruTtlCache<String, V> recent;
+    private final ConcurrentHashMap<String, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyGuard(long expectedKeys, int recentSize, long recentTtlMillis) {
+        this.seen = new BloomFilter(expectedKeys, 0.01);
+        this.recent = new LruTtlCache<>(recentSize, recentTtlMillis);
+    }
+
+    /** 이미 처리된 키 등록 (기동 시 DB 적재용) */
+    public void remember(String key) {
+        if (key != null) seen.put(key);
+    }
+
+    /**
+     * @param lookup 기존 결과 조회 (없으면 null). 블룸 필터가 "있을 수 있다"고 할 때만 호출된다
+     * @param action 처음 보는 키일 때 실행할 쓰기. 예외가 나면 키는 기록되지 않아 재시도할 수 있다
+     */
+    public V execute(String key, Function<String, V> lookup, Supplier<V> action) {
+        if (key == null || key.isBlank()) return action.get();
+
+        V cached = recent.get(key);
+        if (cached != null) return cached;
+
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) return await(running);
+
+        try {
+            V result = seen.mightContain(key) ? lookup.apply(key) : null;
+            if (result == null) {
+                result = action.get();
+                seen.put(key);
+            }
+            recent.put(key, result);
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private static <V> V await(CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw e;
+        }
+    }
+}
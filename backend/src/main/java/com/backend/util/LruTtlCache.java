@@ -0,0 +1,93 @@
+package com.backend.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 크기 상한(LRU) + 만료 시간(TTL)을 가진 단순 메모리 캐시.
+ * 로딩 중에 무효화가 일어나면 그 로딩 결과는 저장하지 않는다(오래된 값이 다시 들어가는 것 방지).
+ */
+public class LruTtlCache<K, V> {
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final LinkedHashMap<K, Entry<V>> map;
+    private long generation = 0;
+
+    public LruTtlCache(int maxSize, long ttlMillis) {
+        if (maxSize <= 0 || ttlMillis <= 0) {
+            throw new IllegalArgumentException("maxSize and ttlMillis must be > 0");
+        }
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        this.map = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > LruTtlCache.this.maxSize;
+            }
+        };
+    }
+
+    public synchronized V get(K key) {
+        Entry<V> e = map.get(key);
+        if (e == null) return null;
+        if (e.expiresAt() < System.currentTimeMillis()) {
+            map.remove(key);
+            return null;
+        }
+        return e.value();
+    }
+
+    public synchronized void put(K key, V value) {
+        map.put(key, new Entry<>(value, System.currentTimeMillis() + ttlMillis));
+    }
+
+    /** 캐시에 없으면 loader로 채운다. loader는 잠금 밖에서 실행된다. */
+    public V getOrLoad(K key, Supplier<V> loader) {
+        long startedAt;
+        synchronized (this) {
+            V cached = get(key);
+            if (cached != null) return cached;
+            startedAt = generation;
+        }
+        V loaded = loader.get();
+        synchronized (this) {
+            if (loaded != null && generation == startedAt) {
+                put(key, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    public synchronized void invalidate(K key) {
+        generation++;
+        map.remove(key);
+    }
+
+    public synchronized int invalidateIf(Predicate<K> predicate) {
+        generation++;
+        int removed = 0;
+        for (Iterator<K> it = map.keySet().iterator(); it.hasNext(); ) {
+            if (predicate.test(it.next())) {
+                it.remove();
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    public synchronized void invalidateAll() {
+        generation++;
+        map.clear();
+    }
+
+    public synchronized int size() {
+        return map.size();
+    }
+}
@@ -0,0 +1,33 @@
+package com.backend.util;
+
+/**
+ * 스칼라 구현 (Vector API를 쓸 수 없을 때의 기본값).
+ * 기준점의 라디안/코사인을 한 번만 계산하는 것 외에는 GeoUtils.distanceMeters와 같다.
+ */
+public final class ScalarHaversineKernel implements HaversineKernel {
+
+    static final double TO_RADIANS = Math.PI / 180.0;
+
+    @Override
+    public void distances(double lat, double lng, double[] lats, double[] lngs, int n, double[] out) {
+        double lat0 = lat * TO_RADIANS;
+        double lng0 = lng * TO_RADIANS;
+        double cosLat0 = Math.cos(lat0);
+        for (int i = 0; i < n; i++) {
+            out[i] = distance(lat0, lng0, cosLat0, lats[i] * TO_RADIANS, lngs[i] * TO_RADIANS);
+        }
+    }
+
+    /** 라디안 입력 한 건 (VectorHaversineKernel의 나머지 처리에도 사용) */
+    static double distance(double lat0, double lng0, double cosLat0, double lat, double lng) {
+        double sinDLat = Math.sin((lat - lat0) * 0.5);
+        double sinDLng = Math.sin((lng - lng0) * 0.5);
+        double a = sinDLat * sinDLat + cosLat0 * Math.cos(lat) * sinDLng * sinDLng;
+        return 2 * GeoUtils.EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+}
@@ -0,0 +1,145 @@
+package com.backend.repository;
+
+import com.backend.domain.member.Funding;
+import com.backend.domain.member.Funding.FundingStatus;
+import com.backend.domain.member.Member;
+import com.backend.domain.restaurant.Restaurant;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 펀딩 10만 건 INSERT: IDENTITY 방식(행마다 INSERT 후 생성 키 조회) vs 시퀀스(pooled) + JDBC 배치.
+ * IDENTITY 쪽은 엔티티 매핑이 바뀌었으므로 Hibernate가 하던 것과 같은 왕복(INSERT + getGeneratedKeys)을 JDBC로 재현한다.
+ * 시퀀스 쪽을 먼저 넣는다. IDENTITY 쪽을 먼저 넣으면 AUTO_INCREMENT가 시퀀스 값(MAX(id) + 50에서 시작)을 지나쳐
+ * 시퀀스가 주는 ID와 겹친다. 반대 순서면 InnoDB가 AUTO_INCREMENT를 이미 들어간 최대 ID 뒤로 올린다.
+ * (먼저 도는 쪽이 JIT 워밍업 비용을 떠안으므로 시퀀스 쪽에 불리한 순서다)
+ * 측정 후 merchant_uid가 'bench-'로 시작하는 행은 모두 지운다.
+ * 실행: PICK_BENCH=true ./gradlew test --tests '*FundingInsertBenchmarkTest'
+ */
+@SpringBootTest
+@Log4j2
+@EnabledIfEnvironmentVariable(named = "PICK_BENCH", matches = "true")
+@TestPropertySource(properties = {
+	"spring.jpa.show-sql=false",
+	"spring.jpa.properties.hibernate.use_sql_comments=false"
+})
+public class FundingInsertBenchmarkTest {
+
+	private static final int ROWS = 100_000;
+	private static final int FLUSH_EVERY = 1000;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	private String memberEmail;
+	private Long restaurantId;
+
+	@BeforeEach
+	void pickOwners() {
+		List<String> emails = jdbcTemplate.queryForList("SELECT email FROM member LIMIT 1", String.class);
+		List<Long> restaurants = jdbcTemplate.queryForList("SELECT id FROM restaurant LIMIT 1", Long.class);
+		assumeFalse(emails.isEmpty() || restaurants.isEmpty(), "member/restaurant 데이터가 필요합니다");
+		// IDENTITY 쪽은 id 컬럼의 AUTO_INCREMENT가 필요 (시퀀스 매핑으로 새로 만든 스키마에는 없음)
+		String extra = jdbcTemplate.queryForObject("""
+				SELECT EXTRA FROM information_schema.COLUMNS
+				WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'funding' AND COLUMN_NAME = 'id'
+				""", String.class);
+		assumeTrue(extra != null && extra.contains("auto_increment"), "funding.id에 AUTO_INCREMENT가 필요합니다");
+		memberEmail = emails.get(0);
+		restaurantId = restaurants.get(0);
+	}
+
+	@AfterEach
+	void cleanUp() {
+		jdbcTemplate.update("DELETE FROM funding WHERE merchant_uid LIKE 'bench-%'");
+	}
+
+	@Test
+	void compareIdentityRoundTripsWithSequenceBatching() {
+		TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+		long sequenceNanos = time(() -> tx.executeWithoutResult(status -> {
+			Member member = entityManager.getReference(Member.class, memberEmail);
+			Restaurant restaurant = entityManager.getReference(Restaurant.class, restaurantId);
+			for (int i = 0; i < ROWS; i++) {
+				entityManager.persist(Funding.builder()
+						.member(member)
+						.restaurant(restaurant)
+						.restaurantName("bench")
+						.totalAmount(10000L)
+						.paymentMethod("card")
+						.merchantUid("bench-sequence-" + i)
+						.status(FundingStatus.CANCELLED)
+						.build());
+				if ((i + 1) % FLUSH_EVERY == 0) {
+					entityManager.flush();
+					entityManager.clear();
+				}
+			}
+		}));
+
+		long identityNanos = time(() -> tx.executeWithoutResult(status -> {
+			String sql = """
+				INSERT INTO funding (member_email, restaurant_id, restaurant_name, total_amount, payment_method,
+				                     merchant_uid, status, created_at)
+				VALUES (?, ?, 'bench', 10000, 'card', ?, 'CANCELLED', NOW())
+				""";
+			for (int i = 0; i < ROWS; i++) {
+				String merchantUid = "bench-identity-" + i;
+				jdbcTemplate.update(con -> {
+					PreparedStatement ps = con.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+					ps.setString(1, memberEmail);
+					ps.setLong(2, restaurantId);
+					ps.setString(3, merchantUid);
+					return ps;
+				}, new GeneratedKeyHolder());
+			}
+		}));
+
+		Long inserted = jdbcTemplate.queryForObject(
+				"SELECT COUNT(1) FROM funding WHERE merchant_uid LIKE 'bench-%'", Long.class);
+		assertEquals(2L * ROWS, inserted);
+
+		log.info("[BENCH] funding insert {} rows", ROWS);
+		log.info("[BENCH] SEQUENCE pooled + batch 50: {} rows/s ({}s)",
+				String.format("%,.0f", rate(sequenceNanos)), String.format("%.1f", sequenceNanos / 1e9));
+		log.info("[BENCH] IDENTITY (row by row)     : {} rows/s ({}s)",
+				String.format("%,.0f", rate(identityNanos)), String.format("%.1f", identityNanos / 1e9));
+	}
+
+	private static long time(Runnable r) {
+		long start = System.nanoTime();
+		r.run();
+		return System.nanoTime() - start;
+	}
+
+	private static double rate(long nanos) {
+		return ROWS / (nanos / 1e9);
+	}
+}
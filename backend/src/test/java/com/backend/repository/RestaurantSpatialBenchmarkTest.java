@@ -0,0 +1,148 @@
+package com.backend.repository;
+
+import com.backend.util.GeoUtils;
+import com.backend.util.HaversineKernel;
+import com.backend.util.HaversineKernels;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * POINT(x, y) 즉석 계산(전체 스캔) vs SPATIAL 인덱스 + MBRContains 1차 필터 비교,
+ * 그리고 DB 행 단위 ST_Distance_Sphere vs 메모리 배열 + HaversineKernel 일괄 계산 비교.
+ * 합성 테이블 restaurant_bench(100만 행)를 만들어 측정하며 실제 restaurant 테이블은 건드리지 않는다.
+ * 실행: PICK_BENCH=true ./gradlew test --tests '*RestaurantSpatialBenchmarkTest'
+ */
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "PICK_BENCH", matches = "true")
+public class RestaurantSpatialBenchmarkTest {
+
+	private static final int ROWS = 1_000_000;
+	private static final int RUNS = 20;
+
+	// 서울 시내 임의 지점들
+	private static final double[][] CENTERS = {
+			{37.5027, 127.0352}, {37.5665, 126.9780}, {37.5172, 127.0473}, {37.4837, 126.9015}
+	};
+	private static final double RADIUS = 2000;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void createSyntheticTable() {
+		jdbcTemplate.execute("DROP TABLE IF EXISTS restaurant_bench");
+		jdbcTemplate.execute("""
+			CREATE TABLE restaurant_bench (
+			  id BIGINT PRIMARY KEY,
+			  x DOUBLE NOT NULL,
+			  y DOUBLE NOT NULL,
+			  location POINT NOT NULL
+			) ENGINE=InnoDB
+			""");
+		// 수도권 범위(경도 126.6~127.4, 위도 37.3~37.8)에 균등 분포, MariaDB SEQUENCE 엔진 사용
+		jdbcTemplate.execute("""
+			INSERT INTO restaurant_bench (id, x, y, location)
+			SELECT t.seq, t.x, t.y, POINT(t.x, t.y)
+			FROM (
+			  SELECT seq, 126.6 + RAND() * 0.8 AS x, 37.3 + RAND() * 0.5 AS y
+			  FROM seq_1_to_%d
+			) t
+			""".formatted(ROWS));
+		jdbcTemplate.execute("CREATE SPATIAL INDEX idx_bench_location ON restaurant_bench (location)");
+		jdbcTemplate.execute("ANALYZE TABLE restaurant_bench");
+	}
+
+	@AfterEach
+	void dropSyntheticTable() {
+		jdbcTemplate.execute("DROP TABLE IF EXISTS restaurant_bench");
+	}
+
+	@Test
+	void compareFullScanWithSpatialPrefilter() {
+		String before = """
+			SELECT COUNT(1) FROM restaurant_bench r
+			WHERE ST_Distance_Sphere(POINT(r.x, r.y), POINT(?, ?)) <= ?
+			""";
+		String after = """
+			SELECT COUNT(1) FROM restaurant_bench r
+			WHERE MBRContains(ST_GeomFromText(?), r.location)
+			  AND ST_Distance_Sphere(r.location, POINT(?, ?)) <= ?
+			""";
+
+		// 결과가 같은지 먼저 확인
+		for (double[] c : CENTERS) {
+			Long a = jdbcTemplate.queryForObject(before, Long.class, c[1], c[0], RADIUS);
+			Long b = jdbcTemplate.queryForObject(after, Long.class,
+					GeoUtils.boundingBoxWkt(c[0], c[1], RADIUS), c[1], c[0], RADIUS);
+			assertEquals(a, b, "bbox 1차 필터가 결과를 바꾸면 안 됨");
+		}
+
+		long beforeNanos = 0, afterNanos = 0;
+		for (int i = 0; i < RUNS; i++) {
+			double[] c = CENTERS[i % CENTERS.length];
+
+			long t0 = System.nanoTime();
+			jdbcTemplate.queryForObject(before, Long.class, c[1], c[0], RADIUS);
+			beforeNanos += System.nanoTime() - t0;
+
+			long t1 = System.nanoTime();
+			jdbcTemplate.queryForObject(after, Long.class,
+					GeoUtils.boundingBoxWkt(c[0], c[1], RADIUS), c[1], c[0], RADIUS);
+			afterNanos += System.nanoTime() - t1;
+		}
+
+		System.out.println("[BENCH] rows=" + ROWS + ", radius=" + RADIUS + "m, runs=" + RUNS);
+		System.out.printf("[BENCH] before (POINT(x, y) full scan): %.2f ms/query%n", beforeNanos / 1e6 / RUNS);
+		System.out.printf("[BENCH] after  (SPATIAL + MBRContains): %.2f ms/query%n", afterNanos / 1e6 / RUNS);
+		double[] c = CENTERS[0];
+		jdbcTemplate.queryForList("EXPLAIN SELECT COUNT(1) FROM restaurant_bench r"
+						+ " WHERE MBRContains(ST_GeomFromText('" + GeoUtils.boundingBoxWkt(c[0], c[1], RADIUS) + "'), r.location)")
+				.forEach(row -> System.out.println("[BENCH] explain " + row));
+	}
+
+	@Test
+	void compareStDistanceSphereWithDistanceKernel() {
+		// 후보 좌표를 double[]로 한 번 적재해 두고 커널로 거리 계산 vs DB 행 단위 ST_Distance_Sphere
+		double[] lats = new double[ROWS], lngs = new double[ROWS], out = new double[ROWS];
+		int[] n = {0};
+		jdbcTemplate.query("SELECT x, y FROM restaurant_bench", rs -> {
+			lngs[n[0]] = rs.getDouble(1);
+			lats[n[0]] = rs.getDouble(2);
+			n[0]++;
+		});
+		HaversineKernel kernel = HaversineKernels.best();
+		String sql = "SELECT COUNT(1) FROM restaurant_bench r WHERE ST_Distance_Sphere(r.location, POINT(?, ?)) <= ?";
+
+		long dbNanos = 0, kernelNanos = 0;
+		for (int i = 0; i < RUNS; i++) {
+			double[] c = CENTERS[i % CENTERS.length];
+
+			long t0 = System.nanoTime();
+			long dbCount = jdbcTemplate.queryForObject(sql, Long.class, c[1], c[0], RADIUS);
+			dbNanos += System.nanoTime() - t0;
+
+			long t1 = System.nanoTime();
+			kernel.distances(c[0], c[1], lats, lngs, n[0], out);
+			long kernelCount = 0;
+			for (int j = 0; j < n[0]; j++) {
+				if (out[j] <= RADIUS) kernelCount++;
+			}
+			kernelNanos += System.nanoTime() - t1;
+
+			// 경계에 걸친 행은 부동소수 오차로 갈릴 수 있음
+			assertTrue(Math.abs(dbCount - kernelCount) <= 1, "db=" + dbCount + ", kernel=" + kernelCount);
+		}
+
+		System.out.println("[BENCH] rows=" + n[0] + ", radius=" + RADIUS + "m, runs=" + RUNS + ", kernel=" + kernel.name());
+		System.out.printf("[BENCH] ST_Distance_Sphere per row: %.2f ms/query%n", dbNanos / 1e6 / RUNS);
+		System.out.printf("[BENCH] HaversineKernel bulk    : %.2f ms/query%n", kernelNanos / 1e6 / RUNS);
+	}
+}
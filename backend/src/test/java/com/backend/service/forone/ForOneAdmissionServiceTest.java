@@ -0,0 +1,175 @@
+package com.backend.service.forone;
+
+import com.backend.domain.restaurant.ForOneStatus;
+import com.backend.dto.forone.ForOneJoinResultDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 참여/취소와 주기 기록(write-behind)을 함께 돌려도 DB에 정원을 넘는 인원이 기록되지 않는지 확인.
+ * DB는 슬롯 하나짜리 메모리 테이블로 흉내 내고, 기록 실패도 주기적으로 끼워 넣는다.
+ */
+public class ForOneAdmissionServiceTest {
+
+    private static final long SLOT = 7L;
+    private static final int MAX = 30;
+    private static final int THREADS = 64;
+    private static final int REQUESTS = 5000;
+    private static final int MEMBERS = 120;
+
+    @Test
+    void joinsLeavesAndFlushesNeverPersistMoreThanMax() throws Exception {
+        FakeDb db = new FakeDb();
+        ForOneAdmissionService service = db.service();
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread flusher = new Thread(() -> {
+            int n = 0;
+            while (running.get()) {
+                if (++n % 5 == 0) db.failNextFlush.set(true);
+                service.flush();
+            }
+        });
+
+        List<Future<?>> results = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            int seed = i;
+            results.add(pool.submit(() -> {
+                start.await();
+                Random random = new Random(seed);
+                String member = "member" + random.nextInt(MEMBERS) + "@pick.com";
+                ForOneJoinResultDTO result = random.nextInt(3) == 0
+                        ? service.leave(SLOT, member)
+                        : service.join(SLOT, member);
+                assertTrue(result.getCurrentParticipants() <= MAX, "over max: " + result.getCurrentParticipants());
+                return null;
+            }));
+        }
+        flusher.start();
+        start.countDown();
+        for (Future<?> f : results) f.get();
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+        running.set(false);
+        flusher.join();
+
+        db.failNextFlush.set(false);
+        service.flush();
+
+        assertTrue(db.maxWritten <= MAX, "persisted over max: " + db.maxWritten);
+        assertEquals(db.participants.size(), db.current);
+        assertTrue(db.current <= MAX);
+        // 메모리 판정과 DB 기록이 일치 (다음 참여는 남은 자리만큼만 받는다)
+        int accepted = 0;
+        for (int m = 0; m < MAX + 10; m++) {
+            if (service.join(SLOT, "late" + m + "@pick.com").isAccepted()) accepted++;
+        }
+        assertEquals(MAX - db.current, accepted);
+    }
+
+    @Test
+    void finishedSlotIsEvictedButPendingChangesAreStillWritten() {
+        FakeDb db = new FakeDb();
+        ForOneAdmissionService service = db.service();
+
+        assertTrue(service.join(SLOT, "a@pick.com").isAccepted());
+        assertTrue(service.join(SLOT, "b@pick.com").isAccepted());
+        db.status = ForOneStatus.SUCCESS;
+        service.updateStatus(SLOT, ForOneStatus.SUCCESS);
+
+        assertThrows(IllegalArgumentException.class, () -> service.join(SLOT, "c@pick.com"));
+        service.flush();
+        assertEquals(Set.of("a@pick.com", "b@pick.com"), db.participants);
+        assertEquals(2, db.current);
+
+        // 내려간 뒤에는 DB 상태로 판정하고 끝난 슬롯 카운터를 다시 올리지 않는다
+        int loads = db.loads.get();
+        assertThrows(IllegalArgumentException.class, () -> service.join(SLOT, "c@pick.com"));
+        assertThrows(IllegalArgumentException.class, () -> service.join(SLOT, "c@pick.com"));
+        assertEquals(loads + 2, db.loads.get());
+
+        // 다시 열리면 기록된 참여자와 인원으로 새 카운터를 만든다
+        db.status = ForOneStatus.ACTIVE;
+        ForOneJoinResultDTO again = service.join(SLOT, "a@pick.com");
+        assertEquals("ALREADY_JOINED", again.getReason());
+        assertEquals(2, again.getCurrentParticipants());
+    }
+
+    /** for_one_menu 한 행과 for_one_participant를 흉내 낸 JdbcTemplate (트랜잭션 실패 주입 가능) */
+    private static final class FakeDb extends JdbcTemplate {
+
+        final AtomicBoolean failNextFlush = new AtomicBoolean();
+        final AtomicInteger loads = new AtomicInteger();
+        final Set<String> participants = new HashSet<>();
+        volatile ForOneStatus status = ForOneStatus.ACTIVE;
+        int current;
+        int maxWritten;
+
+        ForOneAdmissionService service() {
+            TransactionTemplate tx = new TransactionTemplate() {
+                @Override
+                public <T> T execute(TransactionCallback<T> action) {
+                    if (failNextFlush.getAndSet(false)) {
+                        throw new CannotCreateTransactionException("injected failure");
+                    }
+                    synchronized (FakeDb.this) {
+                        return action.doInTransaction(null);
+                    }
+                }
+            };
+            return new ForOneAdmissionService(this, tx, event -> {
+            });
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public synchronized <T> List<T> query(String sql, RowMapper<T> rowMapper, Object... args) {
+            loads.incrementAndGet();
+            return (List<T>) List.of(new ForOneSlotCounter(SLOT, 1L, current, MAX, status, null, null));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public synchronized <T> List<T> queryForList(String sql, Class<T> elementType, Object... args) {
+            return (List<T>) new ArrayList<>(participants);
+        }
+
+        @Override
+        public synchronized int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+            for (Object[] args : batchArgs) {
+                if (sql.startsWith("INSERT")) {
+                    participants.add((String) args[1]);
+                } else if (sql.startsWith("DELETE")) {
+                    participants.remove((String) args[1]);
+                } else {
+                    current = (Integer) args[0];
+                    maxWritten = Math.max(maxWritten, current);
+                }
+            }
+            return new int[batchArgs.size()];
+        }
+    }
+}
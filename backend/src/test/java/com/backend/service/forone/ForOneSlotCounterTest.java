@@ -0,0 +1,127 @@
+package com.backend.service.forone;
+
+import com.backend.domain.restaurant.ForOneStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * DB 없이 슬롯 카운터만으로 동시 참여 시 정원 초과가 없는지 확인.
+ */
+public class ForOneSlotCounterTest {
+
+    private static final int THREADS = 64;
+    private static final int JOINS = 5000;
+    private static final int MAX = 300;
+
+    @Test
+    void concurrentJoinsNeverExceedMax() throws Exception {
+        ForOneSlotCounter counter = slot(10, MAX);
+        int accepted = race(JOINS, counter::tryJoin);
+
+        assertEquals(MAX - 10, accepted);
+        assertEquals(MAX, counter.current());
+        assertFalse(counter.tryJoin());
+    }
+
+    @Test
+    void concurrentJoinsAndLeavesStayWithinBounds() throws Exception {
+        ForOneSlotCounter counter = slot(0, MAX);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < JOINS; i++) {
+            boolean join = i % 3 != 0;
+            results.add(pool.submit(() -> {
+                start.await();
+                int delta = join ? (counter.tryJoin() ? 1 : 0) : (counter.tryLeave() ? -1 : 0);
+                int current = counter.current();
+                assertTrue(current >= 0 && current <= MAX, "out of bounds: " + current);
+                return delta;
+            }));
+        }
+        start.countDown();
+
+        int net = 0;
+        for (Future<Integer> f : results) net += f.get();
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+        // 성공한 증감의 합이 최종 값과 일치해야 함 (잃어버린 갱신 없음)
+        assertEquals(net, counter.current());
+    }
+
+    @Test
+    void unlimitedSlotAcceptsEveryJoin() throws Exception {
+        ForOneSlotCounter counter = slot(0, null);
+        assertEquals(JOINS, race(JOINS, counter::tryJoin));
+        assertEquals(JOINS, counter.current());
+    }
+
+    @Test
+    void memberHoldsAtMostOneSeatAndOnlyOwnSeatCanBeReleased() throws Exception {
+        ForOneSlotCounter counter = slot(0, MAX);
+        int accepted = race(JOINS, () -> counter.join("a@test.com") == ForOneSlotCounter.Admission.ACCEPTED);
+
+        assertEquals(1, accepted);
+        assertEquals(1, counter.current());
+        assertEquals(ForOneSlotCounter.Admission.NOT_JOINED, counter.leave("b@test.com"));
+        assertEquals(1, counter.current());
+
+        assertEquals(ForOneSlotCounter.Admission.ACCEPTED, counter.leave("a@test.com"));
+        assertEquals(ForOneSlotCounter.Admission.NOT_JOINED, counter.leave("a@test.com"));
+        assertEquals(0, counter.current());
+        assertEquals(Map.of("a@test.com", false), counter.drainUnsaved());
+    }
+
+    @Test
+    void onlyActiveSlotWithinPeriodIsOpen() {
+        LocalDateTime now = LocalDateTime.now();
+        ForOneSlotCounter counter = slot(0, MAX);
+        assertTrue(counter.isOpen(now));
+        assertFalse(counter.isOpen(now.plusDays(2)));
+
+        counter.status(ForOneStatus.PAUSED);
+        assertFalse(counter.isOpen(now));
+    }
+
+    private static ForOneSlotCounter slot(int current, Integer max) {
+        LocalDateTime now = LocalDateTime.now();
+        return new ForOneSlotCounter(1L, 1L, current, max, ForOneStatus.ACTIVE, now.minusDays(1), now.plusDays(1));
+    }
+
+    /** n번의 시도를 동시에 시작시키고 성공 횟수를 반환 */
+    private static int race(int n, BooleanSupplier attempt) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            results.add(pool.submit(() -> {
+                start.await();
+                return attempt.getAsBoolean();
+            }));
+        }
+        start.countDown();
+
+        int accepted = 0;
+        for (Future<Boolean> f : results) {
+            if (f.get()) accepted++;
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+        return accepted;
+    }
+}
@@ -43,15 +43,15 @@ public class RestaurantSeedTest {
 		jdbcTemplate.execute("TRUNCATE TABLE restaurant");
 		jdbcTemplate.execute("SET FOREIGN_KEY_CHECKS = 1");
 
-		// 3) CSV 적재: 필수 아님 컬럼(funding_*)은 기본값 0으로 세팅
+		// 3) CSV 적재: 필수 아님 컬럼(funding_*)은 기본값 0으로 세팅, location(POINT)은 x/y로 채움
 		String loadSqlLf = "LOAD DATA LOCAL INFILE '" + csvAbsolutePath + "'\n" +
 				"INTO TABLE restaurant\n" +
 				"CHARACTER SET utf8mb4\n" +
 				"FIELDS TERMINATED BY ',' ENCLOSED BY '" + '"' + "' ESCAPED BY '" + '"' + "'\n" +
 				"LINES TERMINATED BY '\\n'\n" +
 				"IGNORE 1 LINES\n" +
-				"(id, name, category_name, phone, road_address_name, x, y, place_url, distance)\n" +
-				"SET funding_goal_amount = 0, funding_amount = 0";
+				"(id, name, category_name, phone, road_address_name, @x, @y, place_url, distance)\n" +
+				"SET x = @x, y = @y, location = POINT(@x + 0, @y + 0), funding_goal_amount = 0, funding_amount = 0";
 		String loadSqlCrlf = loadSqlLf.replace("LINES TERMINATED BY '\\\\n'", "LINES TERMINATED BY '\\\\r\\\\n'");
 		try {
 			jdbcTemplate.execute(loadSqlLf);
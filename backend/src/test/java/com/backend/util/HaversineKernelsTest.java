@@ -0,0 +1,58 @@
+package com.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Vector API 커널이 스칼라 커널과 같은 거리를 내는지 확인.
+ * 길이를 0부터 하나씩 늘려 레인 수의 배수가 아닌 경우(스칼라 꼬리 루프)까지 모두 비교한다.
+ * test 태스크는 --add-modules jdk.incubator.vector 로 실행되므로 best()는 벡터 구현이어야 한다.
+ */
+public class HaversineKernelsTest {
+
+    private static final int MAX_LENGTH = 70; // 최대 8레인(512bit) 기준 몇 바퀴 + 모든 나머지
+    private static final double TOLERANCE_METERS = 1e-6;
+
+    @Test
+    void bestIsVectorKernelWhenModuleIsPresent() {
+        assumeTrue(ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent());
+        assumeTrue(!"scalar".equals(System.getProperty("pick.geo.kernel")));
+
+        assertNotSame(HaversineKernels.scalar(), HaversineKernels.best());
+    }
+
+    @Test
+    void vectorMatchesScalarForEveryTailLength() {
+        HaversineKernel vector = HaversineKernels.best();
+        assumeTrue(vector != HaversineKernels.scalar(), "vector kernel not available");
+        HaversineKernel scalar = HaversineKernels.scalar();
+
+        Random random = new Random(42);
+        for (int n = 0; n <= MAX_LENGTH; n++) {
+            assertSameDistances(vector, scalar, random, n);
+        }
+        assertSameDistances(vector, scalar, random, 10_007);
+    }
+
+    private static void assertSameDistances(HaversineKernel vector, HaversineKernel scalar, Random random, int n) {
+        double lat = 33 + random.nextDouble() * 5;
+        double lng = 125 + random.nextDouble() * 5;
+        double[] lats = new double[n], lngs = new double[n];
+        for (int i = 0; i < n; i++) {
+            lats[i] = 33 + random.nextDouble() * 5;
+            lngs[i] = 125 + random.nextDouble() * 5;
+        }
+        double[] expected = new double[n], actual = new double[n];
+        scalar.distances(lat, lng, lats, lngs, n, expected);
+        vector.distances(lat, lng, lats, lngs, n, actual);
+
+        for (int i = 0; i < n; i++) {
+            assertEquals(expected[i], actual[i], TOLERANCE_METERS, "n=" + n + ", i=" + i);
+        }
+    }
+}
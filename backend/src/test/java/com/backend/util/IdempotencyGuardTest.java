@@ -0,0 +1,120 @@
+package com.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 결제 재시도/중복 클릭을 흉내 낸 동시 재요청이 키마다 한 번의 쓰기로 합쳐지는지 확인 (DB 없이 Map을 저장소로 사용).
+ */
+public class IdempotencyGuardTest {
+
+    private static final int THREADS = 64;
+    private static final int KEYS = 50;
+    private static final int REPLAYS_PER_KEY = 200;
+
+    @Test
+    void concurrentReplaysCollapseToOneWritePerKey() throws Exception {
+        IdempotencyGuard<String> guard = new IdempotencyGuard<>(10_000, 1000, 60_000);
+        Map<String, String> store = new ConcurrentHashMap<>();
+        AtomicInteger writes = new AtomicInteger();
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String[]>> results = new ArrayList<>();
+        for (int r = 0; r < REPLAYS_PER_KEY; r++) {
+            for (int k = 0; k < KEYS; k++) {
+                String key = "merchant-" + k;
+                results.add(pool.submit(() -> {
+                    start.await();
+                    String result = guard.execute(key, store::get, () -> {
+                        writes.incrementAndGet();
+                        sleepQuietly(); // DB 쓰기 지연 동안 재요청이 몰리도록
+                        String saved = key + "#" + writes.get();
+                        store.put(key, saved);
+                        return saved;
+                    });
+                    return new String[]{key, result};
+                }));
+            }
+        }
+        start.countDown();
+
+        Map<String, String> firstResult = new ConcurrentHashMap<>();
+        for (Future<String[]> f : results) {
+            String[] kv = f.get();
+            String first = firstResult.putIfAbsent(kv[0], kv[1]);
+            if (first != null) assertEquals(first, kv[1], "같은 키에 다른 결과: " + kv[0]);
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(KEYS, writes.get());
+        assertEquals(KEYS, store.size());
+    }
+
+    @Test
+    void replayAfterCacheExpiryUsesLookupInsteadOfWriting() {
+        IdempotencyGuard<String> guard = new IdempotencyGuard<>(10_000, 1, 60_000);
+        Map<String, String> store = new ConcurrentHashMap<>();
+        AtomicInteger writes = new AtomicInteger();
+
+        String first = guard.execute("a", store::get, () -> {
+            writes.incrementAndGet();
+            store.put("a", "A");
+            return "A";
+        });
+        guard.execute("b", store::get, () -> "B"); // 최근 결과 캐시(크기 1)에서 "a"를 밀어냄
+
+        String replay = guard.execute("a", store::get, () -> {
+            writes.incrementAndGet();
+            return "A2";
+        });
+        assertSame(first, replay);
+        assertEquals(1, writes.get());
+    }
+
+    @Test
+    void failedWriteCanBeRetried() {
+        IdempotencyGuard<String> guard = new IdempotencyGuard<>(10_000, 1000, 60_000);
+        assertThrows(IllegalStateException.class, () -> guard.execute("k", key -> null, () -> {
+            throw new IllegalStateException("payment gateway down");
+        }));
+        assertEquals("ok", guard.execute("k", key -> null, () -> "ok"));
+    }
+
+    @Test
+    void bloomFilterHasNoFalseNegatives() {
+        BloomFilter filter = new BloomFilter(100_000, 0.01);
+        for (int i = 0; i < 100_000; i++) filter.put("m-" + i);
+        for (int i = 0; i < 100_000; i++) assertTrue(filter.mightContain("m-" + i));
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("x-" + i)) falsePositives++;
+        }
+        assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+    }
+
+    private static void sleepQuietly() {
+        try {
+            Thread.sleep(5);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
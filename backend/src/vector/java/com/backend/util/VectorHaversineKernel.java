@@ -0,0 +1,47 @@
+package com.backend.util;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * JDK Vector API(jdk.incubator.vector) 구현. CPU가 지원하는 가장 넓은 레인 수로 한 번에 계산한다.
+ * 모듈이 없는 JVM에서는 이 클래스를 로드하지 않아야 하므로 HaversineKernels를 통해서만 생성한다.
+ */
+public final class VectorHaversineKernel implements HaversineKernel {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+    private static final double DIAMETER = 2 * GeoUtils.EARTH_RADIUS_METERS;
+
+    @Override
+    public void distances(double lat, double lng, double[] lats, double[] lngs, int n, double[] out) {
+        double lat0 = lat * ScalarHaversineKernel.TO_RADIANS;
+        double lng0 = lng * ScalarHaversineKernel.TO_RADIANS;
+        double cosLat0 = Math.cos(lat0);
+
+        int i = 0;
+        int upper = SPECIES.loopBound(n);
+        for (; i < upper; i += SPECIES.length()) {
+            DoubleVector la = DoubleVector.fromArray(SPECIES, lats, i).mul(ScalarHaversineKernel.TO_RADIANS);
+            DoubleVector lo = DoubleVector.fromArray(SPECIES, lngs, i).mul(ScalarHaversineKernel.TO_RADIANS);
+            DoubleVector sinDLat = la.sub(lat0).mul(0.5).lanewise(VectorOperators.SIN);
+            DoubleVector sinDLng = lo.sub(lng0).mul(0.5).lanewise(VectorOperators.SIN);
+            DoubleVector a = sinDLat.mul(sinDLat)
+                    .add(la.lanewise(VectorOperators.COS).mul(cosLat0).mul(sinDLng).mul(sinDLng));
+            a.lanewise(VectorOperators.SQRT)
+                    .min(1.0)
+                    .lanewise(VectorOperators.ASIN)
+                    .mul(DIAMETER)
+                    .intoArray(out, i);
+        }
+        for (; i < n; i++) {
+            out[i] = ScalarHaversineKernel.distance(lat0, lng0, cosLat0,
+                    lats[i] * ScalarHaversineKernel.TO_RADIANS, lngs[i] * ScalarHaversineKernel.TO_RADIANS);
+        }
+    }
+
+    @Override
+    public String name() {
+        return "vector(" + SPECIES.length() + " lanes)";
+    }
+}
@@ -10,11 +10,32 @@ export async function getMemberFundings(memberId) {
   return data;
 }
 
+// 최신순 커서 페이지: { content, size, hasNext, nextCursor } (다음 페이지는 nextCursor 전달)
+export async function getMemberFundingSlice(memberId, { cursor, size = 20 } = {}) {
+  const { data } = await api.get(`/api/funding/member/${memberId}/cursor`, {
+    params: { cursor, size },
+  });
+  return data;
+}
+
+export async function getRestaurantFundingSlice(restaurantId, { cursor, size = 20 } = {}) {
+  const { data } = await api.get(`/api/funding/restaurant/${restaurantId}/cursor`, {
+    params: { cursor, size },
+  });
+  return data;
+}
+
 export async function getRestaurantFundings(restaurantId) {
   const { data } = await api.get(`/api/funding/restaurant/${restaurantId}`);
   return data;
 }
 
+// { restaurantId, fundingAmount, fundingGoalAmount, fundingPercent }
+export async function getRestaurantFundingProgress(restaurantId) {
+  const { data } = await api.get(`/api/funding/restaurant/${restaurantId}/progress`);
+  return data;
+}
+
 export async function getFundingById(fundingId) {
   const { data } = await api.get(`/api/funding/${fundingId}`);
   return data;
@@ -14,17 +14,26 @@ export async function fetchNearbyRestaurants({
   lat,
   lng,
   radius = 2000,
+  categoryId,
   page = 0,
   size = 24,
 }) {
   const { data } = await api.get("/api/restaurants/nearby", {
-    params: { lat, lng, radius, page, size },
+    params: { lat, lng, radius, categoryId, page, size },
   });
   console.log(data);
 
   return data; // Spring의 Page<Restaurant> JSON
 }
 
+// 근처 음식점 카테고리별 개수 (카테고리 칩용)
+export async function fetchNearbyCategoryFacets({ lat, lng, radius = 2000 }) {
+  const { data } = await api.get("/api/restaurants/nearby/facets", {
+    params: { lat, lng, radius },
+  });
+  return data; // { total, levelTotals, facets: [{ id, parentId, depth, name, count }] }
+}
+
 // 🍜 근처 한그릇 메뉴: 가까운 순 + 페이징
 export async function fetchNearbyForOneMenus({
   lat,
@@ -41,11 +50,55 @@ export async function fetchNearbyForOneMenus({
   return data; // Spring의 Page<ForOneMenuNearbyView> JSON
 }
 
+// 한그릇 참여/취소 (정원 초과 등으로 반영되지 않으면 409와 함께 accepted=false)
+export async function joinForOne(slotId) {
+  const { data } = await api.post(`/api/for-one/${slotId}/join`);
+  return data; // { slotId, accepted, currentParticipants, maxParticipants }
+}
+
+export async function leaveForOne(slotId) {
+  const { data } = await api.post(`/api/for-one/${slotId}/leave`);
+  return data;
+}
+
+// 한그릇 참여 인원/상태 실시간 구독 (SSE). slotIds 또는 lat/lng/radius 중 하나로 구독
+// onDeltas: [{ slotId, currentParticipants, status }] 를 받는 콜백. 반환값을 호출하면 구독 해제
+export function subscribeForOneSlots({ slotIds, lat, lng, radius }, onDeltas) {
+  const params = new URLSearchParams();
+  if (slotIds?.length) params.set("slotIds", slotIds.join(","));
+  else {
+    params.set("lat", lat);
+    params.set("lng", lng);
+    if (radius != null) params.set("radius", radius);
+  }
+  const source = new EventSource(
+    `${api.defaults.baseURL}/api/for-one/stream?${params.toString()}`
+  );
+  source.addEventListener("slots", (e) => onDeltas(JSON.parse(e.data)));
+  return () => source.close();
+}
+
+// 음식점 검색 (이름/카테고리/태그, lat/lng를 주면 가까운 곳 우선)
+export async function searchRestaurants({ q, lat, lng, size = 20 }) {
+  const { data } = await api.get("/api/restaurants/search", {
+    params: { q, lat, lng, size },
+  });
+  return data; // List<RestaurantThumbView> (점수순)
+}
+
 export async function fetchRestaurantDetail(id) {
   const { data } = await api.get(`/api/restaurants/${id}`);
   return data; // RestaurantDTO (기본 + 확장 정보 포함)
 }
 
+export async function fetchRestaurantsBatch(ids) {
+  if (!ids || ids.length === 0) return [];
+  const { data } = await api.get("/api/restaurants/batch", {
+    params: { ids: ids.join(",") },
+  });
+  return data; // List<RestaurantThumbView> (요청한 ID 순서)
+}
+
 export async function fetchRestaurantMenus(id) {
   const { data } = await api.get(`/api/restaurants/${id}/menus`);
   return data; // List<MenuDTO>
@@ -39,12 +39,14 @@ def get_connection():
 @app.get("/chart/category")
 def category_chart(user_email: str):
     conn = get_connection()
+    # 백엔드가 펀딩 이벤트로 미리 집계한 회원별 식당 테이블 (funding 전체 조인 GROUP BY 대신).
+    # 카테고리는 현재 restaurant 값으로 묶는다 (NULL 카테고리도 기존과 같이 그대로 한 묶음)
     sql = """
-    SELECT r.category_name, COUNT(f.id) AS order_count
-    FROM funding f
-    JOIN restaurant r ON f.restaurant_id = r.id
-    WHERE f.member_email = %s
-      AND f.status = 'COMPLETED'
+    SELECT r.category_name, SUM(s.funding_count) AS order_count
+    FROM funding_member_restaurant_stats s
+    JOIN restaurant r ON s.restaurant_id = r.id
+    WHERE s.member_email = %s
+      AND s.funding_count > 0
     GROUP BY r.category_name
     """
     df = pd.read_sql(sql, conn, params=[user_email])
@@ -88,11 +90,11 @@ def category_chart(user_email: str):
 def recommend_top_restaurants(user_email: str):
     conn = get_connection()
     sql_top = """
-    SELECT r.category_name, COUNT(f.id) AS order_count
-    FROM funding f
-    JOIN restaurant r ON f.restaurant_id = r.id
-    WHERE f.member_email = %s
-      AND f.status = 'COMPLETED'
+    SELECT r.category_name, SUM(s.funding_count) AS order_count
+    FROM funding_member_restaurant_stats s
+    JOIN restaurant r ON s.restaurant_id = r.id
+    WHERE s.member_email = %s
+      AND s.funding_count > 0
     GROUP BY r.category_name
     ORDER BY order_count DESC
     LIMIT 1
@@ -124,11 +126,11 @@ def recommend_top_restaurants(user_email: str):
 def restaurant_chart(user_email: str):
     conn = get_connection()
     sql = """
-    SELECT r.name AS restaurant_name, COUNT(f.id) AS order_count
-    FROM funding f
-    JOIN restaurant r ON f.restaurant_id = r.id
-    WHERE f.member_email = %s
-      AND f.status = 'COMPLETED'
+    SELECT r.name AS restaurant_name, SUM(s.funding_count) AS order_count
+    FROM funding_member_restaurant_stats s
+    JOIN restaurant r ON s.restaurant_id = r.id
+    WHERE s.member_email = %s
+      AND s.funding_count > 0
     GROUP BY r.name
     ORDER BY order_count DESC
     LIMIT 5